@@ -0,0 +1,95 @@
+package implementations;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import utilities.BinaryCodec;
+
+/**
+ * Ready-made <code>BinaryCodec</code>s for common element types.
+ * Numbers are stored big-endian at their natural width and strings as UTF-8.
+ * For records, implement a fixed-size <code>BinaryCodec</code> that writes each field at a set offset.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public final class BinaryCodecs
+{
+	/**
+	 * Codec for <code>Integer</code> elements, 4 bytes each.
+	 */
+	public static final BinaryCodec<Integer> INTEGER = new BinaryCodec<Integer>() {
+		public int fixedSize() {
+			return Integer.BYTES;
+		}
+
+		public byte[] encode( Integer element ) {
+			return ByteBuffer.allocate(Integer.BYTES).putInt(element).array();
+		}
+
+		public Integer decode( ByteBuffer buffer, int offset, int length ) {
+			return buffer.getInt(offset);
+		}
+	};
+
+	/**
+	 * Codec for <code>Long</code> elements, 8 bytes each.
+	 */
+	public static final BinaryCodec<Long> LONG = new BinaryCodec<Long>() {
+		public int fixedSize() {
+			return Long.BYTES;
+		}
+
+		public byte[] encode( Long element ) {
+			return ByteBuffer.allocate(Long.BYTES).putLong(element).array();
+		}
+
+		public Long decode( ByteBuffer buffer, int offset, int length ) {
+			return buffer.getLong(offset);
+		}
+	};
+
+	/**
+	 * Codec for <code>Double</code> elements, 8 bytes each.
+	 */
+	public static final BinaryCodec<Double> DOUBLE = new BinaryCodec<Double>() {
+		public int fixedSize() {
+			return Double.BYTES;
+		}
+
+		public byte[] encode( Double element ) {
+			return ByteBuffer.allocate(Double.BYTES).putDouble(element).array();
+		}
+
+		public Double decode( ByteBuffer buffer, int offset, int length ) {
+			return buffer.getDouble(offset);
+		}
+	};
+
+	/**
+	 * Codec for <code>String</code> elements, stored as UTF-8 with variable length.
+	 */
+	public static final BinaryCodec<String> STRING = new BinaryCodec<String>() {
+		public int fixedSize() {
+			return VARIABLE_SIZE;
+		}
+
+		public byte[] encode( String element ) {
+			return element.getBytes(StandardCharsets.UTF_8);
+		}
+
+		public String decode( ByteBuffer buffer, int offset, int length ) {
+			byte[] bytes = new byte[length];
+			ByteBuffer view = buffer.duplicate(); // Bulk read without moving the shared buffer's position
+			view.position(offset);
+			view.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/**
+	 * Not instantiable.
+	 */
+	private BinaryCodecs() {
+	}
+}
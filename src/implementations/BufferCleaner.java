@@ -0,0 +1,60 @@
+package implementations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases direct and memory-mapped buffers without waiting for garbage collection.
+ * Shared by <code>OffHeapRecordList</code> and <code>MappedList</code>.
+ * There is no public API for this on Java 8, so the JDK's own cleaner is reached by reflection:
+ * <code>Unsafe.invokeCleaner</code> on Java 9 and later, the buffer's <code>cleaner()</code> on Java 8.
+ * If neither is reachable, the memory is left for the collector to reclaim as usual.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+final class BufferCleaner
+{
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			unsafe = theUnsafe.get(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			invokeCleaner = null; // Java 8, or access denied
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	/**
+	 * Frees a direct or mapped buffer's memory if the JDK allows it.
+	 *
+	 * @param buffer The direct or mapped buffer to release. It must not be used afterwards.
+	 * @author TerrellAW
+	 */
+	static void release( ByteBuffer buffer ) {
+		try {
+			if (INVOKE_CLEANER != null) {
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+			} else {
+				Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+				cleanerMethod.setAccessible(true);
+				Object cleaner = cleanerMethod.invoke(buffer);
+				if (cleaner != null) {
+					cleaner.getClass().getMethod("clean").invoke(cleaner);
+				}
+			}
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// Not reachable on this JDK; the buffer is freed when it is collected
+		}
+	}
+}
@@ -0,0 +1,439 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Thread-safe array list for read-mostly data shared between threads.
+ * The elements live in an array that is never modified once published: every write copies the
+ * array, changes the copy and publishes it through a volatile field. Reads, searches and iteration
+ * therefore run on an immutable snapshot without taking a lock, and never see a half-finished write.
+ * Writes are serialized on a lock and cost O(n), so this fits lists that are read far more than written.
+ *
+ * Iterators walk the snapshot taken when they were created; they never throw
+ * <code>ConcurrentModificationException</code> and do not see later writes.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class CopyOnWriteList<E> implements ListADT<E>
+{
+	private final Object lock = new Object(); // Serializes writers, readers never take it
+	private volatile Object[] array;
+
+	/**
+	 * Constructor method.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list is initialized.
+	 *
+	 * @return A new CopyOnWriteList object.
+	 * @author TerrellAW
+	 */
+	public CopyOnWriteList() {
+		this.array = new Object[0];
+	}
+
+	/**
+	 * Returns the number of elements in the current snapshot.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return array.length;
+	}
+
+	/**
+	 * Clears all elements by publishing an empty array.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		synchronized (lock) {
+			array = new Object[0];
+		}
+	}
+
+	/**
+	 * Adds a new element at the specified index in a new copy of the array.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		synchronized (lock) {
+			Object[] current = array;
+			if (index < 0 || index > current.length) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.length);
+			}
+
+			Object[] copy = new Object[current.length + 1];
+			System.arraycopy(current, 0, copy, 0, index);
+			System.arraycopy(current, index, copy, index + 1, current.length - index);
+			copy[index] = toAdd;
+			array = copy;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of a new copy of the array.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		synchronized (lock) {
+			Object[] current = array;
+			Object[] copy = Arrays.copyOf(current, current.length + 1);
+			copy[current.length] = toAdd;
+			array = copy;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of the list with a single copy.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] elements = toAdd.toArray(); // Read the source before locking so the two lists never lock each other
+
+		synchronized (lock) {
+			Object[] current = array;
+			Object[] copy = Arrays.copyOf(current, current.length + elements.length);
+			System.arraycopy(elements, 0, copy, current.length, elements.length);
+			array = copy;
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the current snapshot.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		Object[] snapshot = array;
+		if (index < 0 || index >= snapshot.length) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + snapshot.length + ")");
+		}
+
+		@SuppressWarnings("unchecked")
+		E element = (E)snapshot[index];
+		return element;
+	}
+
+	/**
+	 * Removes the element at the specified index from a new copy of the array.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		synchronized (lock) {
+			Object[] current = array;
+			if (index < 0 || index >= current.length) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.length);
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)current[index];
+			array = without(current, index);
+			return element;
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element from a new copy of the array.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		synchronized (lock) {
+			Object[] current = array;
+			int index = indexOf(current, toRemove);
+			if (index == -1) {
+				return null;
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)current[index];
+			array = without(current, index);
+			return element;
+		}
+	}
+
+	/**
+	 * Replaces the element at the specified index in a new copy of the array.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		}
+
+		synchronized (lock) {
+			Object[] current = array;
+			if (index < 0 || index >= current.length) {
+				throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + current.length + ")");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)current[index];
+			Object[] copy = current.clone();
+			copy[index] = toChange;
+			array = copy;
+			return element;
+		}
+	}
+
+	/**
+	 * Checks if the current snapshot is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return array.length == 0;
+	}
+
+	/**
+	 * Checks if the current snapshot contains a specific element.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for in the list.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		return indexOf(array, toFind) != -1;
+	}
+
+	/**
+	 * Returns the lowest index of an element in a snapshot.
+	 *
+	 * @param snapshot The array to search.
+	 * @param target The element to search for.
+	 * @return Index of the first occurrence if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	private static int indexOf( Object[] snapshot, Object target ) {
+		for (int i = 0; i < snapshot.length; i++) {
+			if (target.equals(snapshot[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns a copy of an array without the element at an index.
+	 *
+	 * @param current The array to copy.
+	 * @param index The index to leave out.
+	 * @return The shorter copy.
+	 * @author TerrellAW
+	 */
+	private static Object[] without( Object[] current, int index ) {
+		Object[] copy = new Object[current.length - 1];
+		System.arraycopy(current, 0, copy, 0, index);
+		System.arraycopy(current, index + 1, copy, index, current.length - index - 1);
+		return copy;
+	}
+
+	/**
+	 * Copies the current snapshot into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		Object[] snapshot = array;
+		if (toHold.length < snapshot.length) {
+			return (E[]) Arrays.copyOf(snapshot, snapshot.length, toHold.getClass());
+		}
+		System.arraycopy(snapshot, 0, toHold, 0, snapshot.length);
+		return toHold;
+	}
+
+	/**
+	 * Returns a copy of the current snapshot. The published array itself is never handed out.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		return array.clone();
+	}
+
+	/**
+	 * Returns an iterator over the snapshot current at the time of the call.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new SnapshotIterator<>(array);
+	}
+
+	/**
+	 * Private subclass for iterating over one published array.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private static class SnapshotIterator<E> implements Iterator<E> {
+		private final Object[] snapshot;
+		private int cursor = 0;
+
+		/**
+		 * Creates an iterator over a snapshot.
+		 *
+		 * @param snapshot The published array to walk.
+		 */
+		SnapshotIterator( Object[] snapshot ) {
+			this.snapshot = snapshot;
+		}
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor < snapshot.length;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException {
+			if (cursor >= snapshot.length) {
+				throw new NoSuchElementException("No more elements");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)snapshot[cursor++];
+			return element;
+		}
+	}
+}
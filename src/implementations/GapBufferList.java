@@ -0,0 +1,574 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Gap buffer list for editing workloads that insert and remove around a moving cursor.
+ * The elements are kept in one array with a run of free slots (the gap) at the cursor.
+ * Inserting or removing at the cursor only moves the gap boundary, so edits are O(1) amortized,
+ * and moving the cursor by d positions copies d elements. Random access through <code>get</code>
+ * and <code>set</code> stays O(1) by skipping over the gap.
+ *
+ * Positional edits through <code>add(int, E)</code> and <code>remove(int)</code> first move the
+ * cursor to the index, so edits near the previous one are cheap. Appends through <code>add(E)</code>
+ * move the cursor to the end, so a run of appends copies the elements after the cursor only once.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class GapBufferList<E> implements ListADT<E>
+{
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] buffer;
+	private int gapStart; // First free slot, which is also the cursor position
+	private int gapEnd; // First slot after the gap
+	private int modCount;
+
+	/**
+	 * Constructor method.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list is initialized with the cursor at zero.
+	 *
+	 * @return A new GapBufferList object.
+	 * @author TerrellAW
+	 */
+	public GapBufferList() {
+		this.buffer = new Object[DEFAULT_CAPACITY];
+		this.gapStart = 0;
+		this.gapEnd = DEFAULT_CAPACITY;
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return buffer.length - (gapEnd - gapStart);
+	}
+
+	/**
+	 * Clears all elements from the list and moves the cursor to zero.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		Arrays.fill(buffer, null);
+		gapStart = 0;
+		gapEnd = buffer.length;
+		modCount++;
+	}
+
+	/**
+	 * Returns the cursor position, the index at which <code>insert</code> adds its element.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The cursor is returned.
+	 *
+	 * @return The cursor position, between 0 and size.
+	 * @author TerrellAW
+	 */
+	public int getCursor() {
+		return gapStart;
+	}
+
+	/**
+	 * Moves the cursor to a position, carrying the gap with it.
+	 *
+	 * Precondition: The position is within 0 and size.
+	 *
+	 * Postcondition: The cursor is at the position and the elements are unchanged.
+	 *
+	 * @param position The new cursor position.
+	 * @throws IndexOutOfBoundsException if the position is outside 0 and size.
+	 * @author TerrellAW
+	 */
+	public void moveCursor( int position ) throws IndexOutOfBoundsException {
+		if (position < 0 || position > size()) {
+			throw new IndexOutOfBoundsException("Cursor: " + position + ", Size: " + size());
+		}
+
+		if (position < gapStart) { // Move the elements between position and the gap to after the gap
+			int count = gapStart - position;
+			System.arraycopy(buffer, position, buffer, gapEnd - count, count);
+			Arrays.fill(buffer, position, Math.min(gapStart, gapEnd - count), null);
+			gapStart -= count;
+			gapEnd -= count;
+		} else if (position > gapStart) { // Move the elements after the gap to before it
+			int count = position - gapStart;
+			System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+			Arrays.fill(buffer, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+			gapStart += count;
+			gapEnd += count;
+		}
+	}
+
+	/**
+	 * Inserts an element at the cursor and moves the cursor past it.
+	 *
+	 * Precondition: Element to insert is not null.
+	 *
+	 * Postcondition: The element is before the cursor and the size of the list increases by one.
+	 *
+	 * @param toInsert The element to insert.
+	 * @throws NullPointerException if the element to insert is null.
+	 * @author TerrellAW
+	 */
+	public void insert( E toInsert ) throws NullPointerException {
+		if (toInsert == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		if (gapStart == gapEnd) {
+			grow();
+		}
+		buffer[gapStart++] = toInsert;
+		modCount++;
+	}
+
+	/**
+	 * Removes the element just before the cursor, like a backspace.
+	 *
+	 * Precondition: The cursor is not at the start of the list.
+	 *
+	 * Postcondition: The element is removed and the cursor moves back by one.
+	 *
+	 * @return The removed element.
+	 * @throws NoSuchElementException if the cursor is at the start of the list.
+	 * @author TerrellAW
+	 */
+	public E deleteBefore() throws NoSuchElementException {
+		if (gapStart == 0) {
+			throw new NoSuchElementException("No element before the cursor");
+		}
+
+		@SuppressWarnings("unchecked")
+		E element = (E)buffer[--gapStart];
+		buffer[gapStart] = null;
+		modCount++;
+		return element;
+	}
+
+	/**
+	 * Removes the element just after the cursor, like a delete key.
+	 *
+	 * Precondition: The cursor is not at the end of the list.
+	 *
+	 * Postcondition: The element is removed and the cursor stays where it is.
+	 *
+	 * @return The removed element.
+	 * @throws NoSuchElementException if the cursor is at the end of the list.
+	 * @author TerrellAW
+	 */
+	public E deleteAfter() throws NoSuchElementException {
+		if (gapEnd == buffer.length) {
+			throw new NoSuchElementException("No element after the cursor");
+		}
+
+		@SuppressWarnings("unchecked")
+		E element = (E)buffer[gapEnd];
+		buffer[gapEnd++] = null;
+		modCount++;
+		return element;
+	}
+
+	/**
+	 * Doubles the buffer, keeping the gap at the cursor.
+	 *
+	 * @author TerrellAW
+	 */
+	private void grow() {
+		int oldLength = buffer.length;
+		int newLength = Math.max(oldLength * 2, DEFAULT_CAPACITY);
+
+		if (newLength < 0) { // Overflowed past Integer.MAX_VALUE
+			throw new OutOfMemoryError("Required array size too large");
+		}
+
+		Object[] newBuffer = new Object[newLength];
+		int tail = oldLength - gapEnd;
+		System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+		System.arraycopy(buffer, gapEnd, newBuffer, newLength - tail, tail);
+		buffer = newBuffer;
+		gapEnd = newLength - tail;
+	}
+
+	/**
+	 * Returns the buffer slot that holds an index.
+	 *
+	 * @param index The index of an element.
+	 * @return The slot of the element in the buffer.
+	 * @author TerrellAW
+	 */
+	private int slot( int index ) {
+		return index < gapStart ? index : index + (gapEnd - gapStart);
+	}
+
+	/**
+	 * Adds a new element at the specified index by moving the cursor there and inserting.
+	 * The cursor is left just after the new element.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index < 0 || index > size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+
+		moveCursor(index);
+		insert(toAdd);
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of the list by moving the cursor to the end and inserting, as <code>addAll</code> does.
+	 * Only the first append after the cursor moves away copies the elements after it; appends that follow are O(1) amortized.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list, the size of the list increases by one and the cursor is at the end.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		moveCursor(size()); // Carry the gap to the end once, so later appends are plain inserts
+		insert(toAdd);
+		return true;
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of this list.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order and the cursor is at the end.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] elements = toAdd.toArray(); // Snapshot so adding a list to itself terminates
+		moveCursor(size());
+		for (Object element : elements) {
+			@SuppressWarnings("unchecked")
+			E next = (E)element;
+			insert(next);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size() + ")");
+		}
+
+		@SuppressWarnings("unchecked")
+		E element = (E)buffer[slot(index)];
+		return element;
+	}
+
+	/**
+	 * Removes the element at the specified index by moving the cursor there and deleting after it.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+
+		if (index == gapStart - 1) { // Just before the cursor, backspace without moving the gap
+			return deleteBefore();
+		}
+		moveCursor(index);
+		return deleteAfter();
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element from the list.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		int index = indexOf(toRemove);
+
+		if (index == -1) {
+			return null;
+		}
+		return remove(index);
+	}
+
+	/**
+	 * Replaces the element at the specified index with a new element. The cursor does not move.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size() + ")");
+		}
+
+		int slot = slot(index);
+		@SuppressWarnings("unchecked")
+		E element = (E)buffer[slot];
+		buffer[slot] = toChange;
+		return element;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Checks if the list contains a specific element.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for in the list.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		return indexOf(toFind) != -1;
+	}
+
+	/**
+	 * Returns the lowest index of the specified element, scanning both sides of the gap.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index is returned if the element is found, otherwise negative one.
+	 *
+	 * @param target The element to search for.
+	 * @return Index of the first occurrence if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( E target ) {
+		if (target == null) {
+			return -1;
+		}
+
+		for (int i = 0; i < gapStart; i++) {
+			if (target.equals(buffer[i])) {
+				return i;
+			}
+		}
+		for (int i = gapEnd; i < buffer.length; i++) {
+			if (target.equals(buffer[i])) {
+				return i - (gapEnd - gapStart);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Converts the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size()) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size());
+		}
+		copyInto(toHold);
+		return toHold;
+	}
+
+	/**
+	 * Returns an array containing the elements of the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size()];
+		copyInto(result);
+		return result;
+	}
+
+	/**
+	 * Copies the elements on both sides of the gap to the start of an array.
+	 *
+	 * @param destination The array to copy into, at least size long.
+	 * @author TerrellAW
+	 */
+	private void copyInto( Object[] destination ) {
+		System.arraycopy(buffer, 0, destination, 0, gapStart);
+		System.arraycopy(buffer, gapEnd, destination, gapStart, buffer.length - gapEnd);
+	}
+
+	/**
+	 * Returns an iterator.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new GapIterator();
+	}
+
+	/**
+	 * Private subclass for iterating through <code>GapBufferList</code>, skipping the gap.
+	 * It tracks an index rather than a buffer slot, so moving the cursor does not disturb it.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class GapIterator implements Iterator<E> {
+		private int cursor = 0;
+		private int expectedModCount = modCount;
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor < size();
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @throws ConcurrentModificationException if the list was structurally modified during iteration.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException, ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (cursor >= size()) {
+				throw new NoSuchElementException("No more elements");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)buffer[slot(cursor++)];
+			return element;
+		}
+	}
+}
@@ -0,0 +1,376 @@
+package implementations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Insertion-ordered list of distinct elements, like a <code>LinkedHashSet</code>: a <code>MyDLL</code>
+ * keeps the order and a hash index maps each element to its node. <code>contains</code>,
+ * <code>remove(E)</code> and <code>moveToEnd</code> are O(1) hash lookups followed by O(1) relinking,
+ * so the list can drop duplicates while keeping first-seen order, or track recency by moving an element
+ * to the end on use and evicting from the front with <code>remove(0)</code>.
+ *
+ * Adding an element that is already present leaves the list unchanged and returns false.
+ * Positional methods walk the list from the nearer end, as in <code>MyDLL</code>.
+ *
+ * Elements must have <code>hashCode</code> and <code>equals</code> that agree and do not change while in the list.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class HashLinkedList<E> implements ListADT<E>
+{
+	private MyDLL<E> list; // Without a node pool, since the index holds node handles
+	private Map<E, MyDLLNode<E>> index;
+
+	/**
+	 * Constructor method.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list with an empty index is initialized.
+	 *
+	 * @return A new HashLinkedList object.
+	 * @author TerrellAW
+	 */
+	public HashLinkedList() {
+		this.list = new MyDLL<>();
+		this.index = new HashMap<>();
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return list.size();
+	}
+
+	/**
+	 * Clears all elements from the list and its index.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		list.clear();
+		index.clear();
+	}
+
+	/**
+	 * Adds a new element at the specified index if it is not already in the list.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one,
+	 * unless it was already present.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the element was added, false if it was already in the list.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index < 0 || index > list.size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + list.size());
+		}
+		if (this.index.containsKey(toAdd)) {
+			return false;
+		}
+
+		MyDLLNode<E> node = index == list.size() ? list.addNode(toAdd) : list.insertBefore(nodeAt(index), toAdd);
+		this.index.put(toAdd, node);
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of the list if it is not already in the list.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one,
+	 * unless it was already present.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the element was added, false if it was already in the list.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index.containsKey(toAdd)) {
+			return false;
+		}
+
+		index.put(toAdd, list.addNode(toAdd));
+		return true;
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of this list, skipping any already present.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: The elements from the specified collection not yet in this list are added in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Iterator<? extends E> it = toAdd.iterator();
+		while (it.hasNext()) {
+			add(it.next());
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= list.size()) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + list.size() + ")");
+		}
+		return nodeAt(index).getElement();
+	}
+
+	/**
+	 * Removes the element at the specified index from the list. Index 0 is the oldest element, so
+	 * <code>remove(0)</code> evicts in O(1).
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= list.size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + list.size());
+		}
+
+		E element = list.removeNode(nodeAt(index));
+		this.index.remove(element);
+		return element;
+	}
+
+	/**
+	 * Removes the specified element in O(1), finding its node through the index.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The element is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		MyDLLNode<E> node = index.remove(toRemove);
+		return node == null ? null : list.removeNode(node);
+	}
+
+	/**
+	 * Replaces the element at the specified index with a new element that is not elsewhere in the list.
+	 *
+	 * Precondition: The new value is not null, not already at another index, and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @throws IllegalArgumentException if the new value is already at another index.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= list.size()) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + list.size() + ")");
+		}
+
+		MyDLLNode<E> node = nodeAt(index);
+		MyDLLNode<E> existing = this.index.get(toChange);
+		if (existing != null && existing != node) {
+			throw new IllegalArgumentException("Element is already in the list: " + toChange);
+		}
+
+		E element = node.getElement();
+		this.index.remove(element);
+		node.setElement(toChange);
+		this.index.put(toChange, node);
+		return element;
+	}
+
+	/**
+	 * Moves an element to the end of the list in O(1), marking it as the most recently used.
+	 *
+	 * Precondition: The element to move is not null.
+	 *
+	 * Postcondition: The element is last in the list if it was present; the order of the others is unchanged.
+	 *
+	 * @param toMove The element to move.
+	 * @return True if the element was found and moved, false if it is not in the list.
+	 * @throws NullPointerException if the element to move is null.
+	 * @author TerrellAW
+	 */
+	public boolean moveToEnd( E toMove ) throws NullPointerException {
+		if (toMove == null) {
+			throw new NullPointerException("Element to move cannot be null");
+		}
+
+		MyDLLNode<E> node = index.get(toMove);
+		if (node == null) {
+			return false;
+		}
+		list.moveToBack(node);
+		return true;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	/**
+	 * Checks if the list contains a specific element with a hash lookup.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for in the list.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		return index.containsKey(toFind);
+	}
+
+	/**
+	 * Returns the node at a valid index, walking from the nearer end.
+	 *
+	 * @param index A valid index.
+	 * @return The node at the index.
+	 * @author TerrellAW
+	 */
+	private MyDLLNode<E> nodeAt( int index ) {
+		MyDLLNode<E> node;
+		if (index < list.size() / 2) {
+			node = list.firstNode();
+			for (int i = 0; i < index; i++) {
+				node = node.getNext();
+			}
+		} else {
+			node = list.lastNode();
+			for (int i = list.size() - 1; i > index; i--) {
+				node = node.getPrev();
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Converts the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		return list.toArray(toHold);
+	}
+
+	/**
+	 * Returns an array containing the elements of the list in order.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A copy of the elements is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		return list.toArray();
+	}
+
+	/**
+	 * Returns an iterator over the elements in insertion order, as changed by <code>moveToEnd</code>.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return list.iterator();
+	}
+}
@@ -0,0 +1,574 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Doubly linked list without node objects.
+ * Each element lives in a slot of an <code>Object[]</code>, and the links are slot numbers held in parallel
+ * <code>int[] next</code> and <code>int[] prev</code> arrays. A removed slot goes onto a free list threaded
+ * through <code>next</code>, and the next add reuses it. Once the arrays have grown to the peak size, adds
+ * and removes allocate nothing. A queue that keeps enqueueing and dequeueing creates no garbage at all,
+ * where <code>MyDLL</code> allocates a node per element.
+ *
+ * Head and tail operations are O(1), like <code>MyDLL</code>, and index access walks the links from the nearer end.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class IndexLinkedList<E> implements ListADT<E>
+{
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int NONE = -1; // Link value meaning no slot
+
+	private Object[] elements;
+	private int[] next;
+	private int[] prev;
+	private int head = NONE;
+	private int tail = NONE;
+	private int freeHead = NONE; // First reusable slot, linked through next
+	private int used; // Slots at or above this index have never been handed out
+	private int size;
+	private int modCount;
+
+	/**
+	 * Constructor method.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list is initialized with room for ten elements.
+	 *
+	 * @return A new IndexLinkedList object.
+	 * @author TerrellAW
+	 */
+	public IndexLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor method with an initial capacity.
+	 *
+	 * Precondition: The initial capacity is not negative.
+	 *
+	 * Postcondition: Empty list is initialized with slots for the given number of elements.
+	 *
+	 * @param initialCapacity The number of elements the list can hold before it has to grow.
+	 * @return A new IndexLinkedList object.
+	 * @throws IllegalArgumentException if the initial capacity is negative.
+	 * @author TerrellAW
+	 */
+	public IndexLinkedList( int initialCapacity ) throws IllegalArgumentException {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+		}
+
+		elements = new Object[initialCapacity];
+		next = new int[initialCapacity];
+		prev = new int[initialCapacity];
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Clears all elements from the list. The slot arrays are kept for reuse.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		Arrays.fill(elements, 0, used, null); // Clear stale references so they can be garbage collected
+		head = NONE;
+		tail = NONE;
+		freeHead = NONE;
+		used = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Adds a new element at the specified index in the list.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		linkBefore(toAdd, index == size ? NONE : slot(index));
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of the list.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		linkBefore(toAdd, NONE);
+		return true;
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of this list.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] added = toAdd.toArray(); // Snapshot so adding a list to itself terminates
+		ensureCapacity(size + added.length);
+		for (Object element : added) {
+			@SuppressWarnings("unchecked")
+			E value = (E)element;
+			linkBefore(value, NONE);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		@SuppressWarnings("unchecked")
+		E element = (E)elements[slot(index)];
+		return element;
+	}
+
+	/**
+	 * Removes the element at the specified index from the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return unlink(slot(index));
+	}
+
+	/**
+	 * Removes the specified element from the list.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence of the element is removed and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		for (int s = head; s != NONE; s = next[s]) {
+			if (toRemove.equals(elements[s])) {
+				return unlink(s);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Replaces the element at the specified index with a new element.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		int s = slot(index);
+		@SuppressWarnings("unchecked")
+		E element = (E)elements[s];
+		elements[s] = toChange;
+		return element;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if the list contains a specific element.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+		return indexOf(toFind) != -1;
+	}
+
+	/**
+	 * Returns the lowest index of the specified element.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index is returned if the element is found, otherwise negative one.
+	 *
+	 * @param target The element to search for.
+	 * @return Index of the first occurrence if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( E target ) {
+		if (target == null) {
+			return -1;
+		}
+
+		int index = 0;
+		for (int s = head; s != NONE; s = next[s]) {
+			if (target.equals(elements[s])) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Converts the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		int i = 0;
+		for (int s = head; s != NONE; s = next[s]) {
+			toHold[i++] = (E)elements[s];
+		}
+		return toHold;
+	}
+
+	/**
+	 * Returns an array containing the elements of the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		int i = 0;
+		for (int s = head; s != NONE; s = next[s]) {
+			result[i++] = elements[s];
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an iterator that follows the slot links.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new SlotIterator();
+	}
+
+	/**
+	 * Returns the number of slots the arrays can hold before they next grow.
+	 * Removed slots are reused, so a list whose size stays below this never grows.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current slot capacity is returned.
+	 *
+	 * @return The length of the slot arrays.
+	 * @author TerrellAW
+	 */
+	public int capacity() {
+		return elements.length;
+	}
+
+	/**
+	 * Grows the slot arrays, if needed, so the list can hold the given number of elements without growing again.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The capacity is at least the given number of elements.
+	 *
+	 * @param minCapacity The desired minimum capacity.
+	 * @author TerrellAW
+	 */
+	public void ensureCapacity( int minCapacity ) {
+		if (minCapacity > elements.length) {
+			int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1)); // Grow by 1.5x
+			newCapacity = Math.max(newCapacity, DEFAULT_CAPACITY);
+			elements = Arrays.copyOf(elements, newCapacity);
+			next = Arrays.copyOf(next, newCapacity);
+			prev = Arrays.copyOf(prev, newCapacity);
+		}
+	}
+
+	/**
+	 * Returns the slot holding a valid index, walking the links from the nearer end.
+	 *
+	 * @param index A valid index.
+	 * @return The slot number.
+	 * @author TerrellAW
+	 */
+	private int slot( int index ) {
+		int s;
+		if (index < size >>> 1) {
+			s = head;
+			for (int i = 0; i < index; i++) {
+				s = next[s];
+			}
+		} else {
+			s = tail;
+			for (int i = size - 1; i > index; i--) {
+				s = prev[s];
+			}
+		}
+		return s;
+	}
+
+	/**
+	 * Takes a slot from the free list, or the next never-used slot, growing the arrays if all are in use.
+	 *
+	 * @return A free slot.
+	 * @author TerrellAW
+	 */
+	private int allocateSlot() {
+		if (freeHead != NONE) {
+			int s = freeHead;
+			freeHead = next[s];
+			return s;
+		}
+		if (used == elements.length) {
+			ensureCapacity(used + 1);
+		}
+		return used++;
+	}
+
+	/**
+	 * Stores an element in a free slot and links it in front of a slot, or at the end.
+	 *
+	 * @param toAdd The element to store.
+	 * @param successor The slot to insert before, or NONE to append.
+	 * @author TerrellAW
+	 */
+	private void linkBefore( E toAdd, int successor ) {
+		int s = allocateSlot();
+		int predecessor = successor == NONE ? tail : prev[successor];
+
+		elements[s] = toAdd;
+		prev[s] = predecessor;
+		next[s] = successor;
+		if (predecessor == NONE) {
+			head = s;
+		} else {
+			next[predecessor] = s;
+		}
+		if (successor == NONE) {
+			tail = s;
+		} else {
+			prev[successor] = s;
+		}
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Unlinks a slot, clears it and puts it on the free list.
+	 *
+	 * @param s The slot to remove.
+	 * @return The element the slot held.
+	 * @author TerrellAW
+	 */
+	private E unlink( int s ) {
+		@SuppressWarnings("unchecked")
+		E element = (E)elements[s];
+		int predecessor = prev[s];
+		int successor = next[s];
+
+		if (predecessor == NONE) {
+			head = successor;
+		} else {
+			next[predecessor] = successor;
+		}
+		if (successor == NONE) {
+			tail = predecessor;
+		} else {
+			prev[successor] = predecessor;
+		}
+
+		elements[s] = null; // Clear stale reference so it can be garbage collected
+		next[s] = freeHead;
+		freeHead = s;
+		size--;
+		modCount++;
+		return element;
+	}
+
+	/**
+	 * Private subclass for iterating through <code>IndexLinkedList</code>.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class SlotIterator implements Iterator<E> {
+		private int cursor = head;
+		private int expectedModCount = modCount;
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor != NONE;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @throws ConcurrentModificationException if the list was structurally modified during iteration.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException, ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (cursor == NONE) {
+				throw new NoSuchElementException("No more elements");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)elements[cursor];
+			cursor = next[cursor];
+			return element;
+		}
+	}
+}
@@ -0,0 +1,575 @@
+package implementations;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Indexable skip list: a linked list with extra express links so positional operations take
+ * O(log n) expected time. Every link also stores its width, the number of elements it skips.
+ * A search adds up widths on the way down from the top level, so finding the node at an index, or
+ * the insertion point for <code>add(int, E)</code>, takes O(log n) expected steps without shifting anything.
+ *
+ * Each node is promoted to the next level with probability 1/4, which averages 1.33 links per element.
+ * Level 0 is a plain singly linked chain held in a field of its own, so three nodes in four are a single
+ * object and iteration, <code>contains</code> and <code>toArray</code> cost the same as on a linked list.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class IndexableSkipList<E> implements ListADT<E>
+{
+	private static final int MAX_LEVEL = 16; // With promotion 1/4, enough for 4^16 elements
+
+	private final SkipNode head = new SkipNode(null, MAX_LEVEL); // Sentinel before index 0
+	private int level = 1; // Number of levels in use
+	private int size;
+	private int modCount;
+	private int seed = (int) System.nanoTime() | 1; // Xorshift state for node levels, never zero
+
+	// Scratch space for searches, reused to avoid allocating on every edit
+	private final SkipNode[] update = new SkipNode[MAX_LEVEL];
+	private final int[] updatePosition = new int[MAX_LEVEL];
+
+	/**
+	 * Node of the skip list. <code>next</code> is the level-0 link, whose width is always one.
+	 * <code>express[i - 1]</code> is the link on level i and <code>width[i - 1]</code> the number of
+	 * level-0 steps it skips, only meaningful while the link is not null.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private static final class SkipNode {
+		Object element;
+		SkipNode next;
+		final SkipNode[] express; // Null for nodes on level 0 only
+		final int[] width;
+
+		/**
+		 * Creates a node with the given number of levels.
+		 *
+		 * @param element The element to store, null for the head sentinel.
+		 * @param levels The number of levels the node takes part in.
+		 */
+		SkipNode( Object element, int levels ) {
+			this.element = element;
+			if (levels > 1) {
+				this.express = new SkipNode[levels - 1];
+				this.width = new int[levels - 1];
+			} else {
+				this.express = null;
+				this.width = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Clears all elements from the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		for (int i = 0; i < MAX_LEVEL; i++) {
+			setLink(head, i, null, 0);
+		}
+		level = 1;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Adds a new element at the specified index in O(log n) expected time.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		findPredecessors(index);
+		int newLevel = randomLevel();
+		for (int i = level; i < newLevel; i++) { // New top levels start at the head
+			update[i] = head;
+			updatePosition[i] = 0;
+		}
+
+		SkipNode node = new SkipNode(toAdd, newLevel);
+		int position = index + 1; // Positions count the head as 0
+		for (int i = 0; i < Math.max(level, newLevel); i++) {
+			SkipNode before = update[i];
+			SkipNode after = link(before, i);
+			if (i < newLevel) { // Splice the new node into this level
+				setLink(node, i, after, updatePosition[i] + width(before, i) + 1 - position);
+				setLink(before, i, node, position - updatePosition[i]);
+			} else if (after != null) { // Link passes over the new node
+				setLink(before, i, after, width(before, i) + 1);
+			}
+		}
+		level = Math.max(level, newLevel);
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of the list in O(log n) expected time.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		return add(size, toAdd);
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of this list.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] elements = toAdd.toArray(); // Snapshot so adding a list to itself terminates
+		for (Object element : elements) {
+			@SuppressWarnings("unchecked")
+			E next = (E)element;
+			add(next);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in O(log n) expected time.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		@SuppressWarnings("unchecked")
+		E element = (E)nodeAt(index).element;
+		return element;
+	}
+
+	/**
+	 * Removes the element at the specified index in O(log n) expected time.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		findPredecessors(index);
+		SkipNode target = update[0].next;
+		for (int i = 0; i < level; i++) {
+			SkipNode before = update[i];
+			SkipNode after = link(before, i);
+			if (after == target) { // Bridge over the removed node
+				setLink(before, i, link(target, i), width(before, i) + width(target, i) - 1);
+			} else if (after != null) { // Link passes over the removed node
+				setLink(before, i, after, width(before, i) - 1);
+			}
+		}
+		while (level > 1 && link(head, level - 1) == null) {
+			level--;
+		}
+		size--;
+		modCount++;
+
+		@SuppressWarnings("unchecked")
+		E element = (E)target.element;
+		target.element = null; // Clear stale reference in case an iterator still holds the node
+		return element;
+	}
+
+	/**
+	 * Removes the specified element from the list.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence of the element is removed and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		int index = indexOf(toRemove);
+		return index == -1 ? null : remove(index);
+	}
+
+	/**
+	 * Replaces the element at the specified index in O(log n) expected time.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		SkipNode node = nodeAt(index);
+		@SuppressWarnings("unchecked")
+		E element = (E)node.element;
+		node.element = toChange;
+		return element;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if the list contains a specific element.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+		return indexOf(toFind) != -1;
+	}
+
+	/**
+	 * Returns the lowest index of the specified element, scanning level 0.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index is returned if the element is found, otherwise negative one.
+	 *
+	 * @param target The element to search for.
+	 * @return Index of the first occurrence if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( E target ) {
+		if (target == null) {
+			return -1;
+		}
+
+		int index = 0;
+		for (SkipNode node = head.next; node != null; node = node.next) {
+			if (target.equals(node.element)) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Converts the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		int i = 0;
+		for (SkipNode node = head.next; node != null; node = node.next) {
+			toHold[i++] = (E)node.element;
+		}
+		return toHold;
+	}
+
+	/**
+	 * Returns an array containing the elements of the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		int i = 0;
+		for (SkipNode node = head.next; node != null; node = node.next) {
+			result[i++] = node.element;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an iterator that follows the level-0 links, O(1) per step.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new SkipIterator();
+	}
+
+	/**
+	 * Returns the node at a valid index by adding up link widths from the top level down.
+	 *
+	 * @param index A valid index.
+	 * @return The node at the index.
+	 * @author TerrellAW
+	 */
+	private SkipNode nodeAt( int index ) {
+		int target = index + 1; // Positions count the head as 0
+		SkipNode node = head;
+		int position = 0;
+		for (int i = level - 1; i >= 0; i--) {
+			for (SkipNode after = link(node, i); after != null; after = link(node, i)) {
+				int step = width(node, i);
+				if (position + step > target) {
+					break;
+				}
+				position += step;
+				node = after;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Fills <code>update</code> with the last node before an index on every level in use,
+	 * and <code>updatePosition</code> with those nodes' positions.
+	 *
+	 * @param index The index whose predecessors are wanted, 0 to size.
+	 * @author TerrellAW
+	 */
+	private void findPredecessors( int index ) {
+		SkipNode node = head;
+		int position = 0;
+		for (int i = level - 1; i >= 0; i--) {
+			for (SkipNode after = link(node, i); after != null; after = link(node, i)) {
+				int step = width(node, i);
+				if (position + step > index) {
+					break;
+				}
+				position += step;
+				node = after;
+			}
+			update[i] = node;
+			updatePosition[i] = position;
+		}
+	}
+
+	/**
+	 * Returns the link leaving a node on a level.
+	 *
+	 * @param node The node the link leaves.
+	 * @param i The level, below the node's own level count.
+	 * @return The next node on that level, or null at the end.
+	 * @author TerrellAW
+	 */
+	private static SkipNode link( SkipNode node, int i ) {
+		return i == 0 ? node.next : node.express[i - 1];
+	}
+
+	/**
+	 * Returns the width of the link leaving a node on a level.
+	 *
+	 * @param node The node the link leaves.
+	 * @param i The level, below the node's own level count.
+	 * @return The number of level-0 steps the link skips.
+	 * @author TerrellAW
+	 */
+	private static int width( SkipNode node, int i ) {
+		return i == 0 ? 1 : node.width[i - 1];
+	}
+
+	/**
+	 * Points the link leaving a node on a level at another node. Level-0 links always have width one.
+	 *
+	 * @param node The node the link leaves.
+	 * @param i The level, below the node's own level count.
+	 * @param to The node to link to, or null to end the level.
+	 * @param width The number of level-0 steps the link skips.
+	 * @author TerrellAW
+	 */
+	private static void setLink( SkipNode node, int i, SkipNode to, int width ) {
+		if (i == 0) {
+			node.next = to;
+		} else {
+			node.express[i - 1] = to;
+			node.width[i - 1] = width;
+		}
+	}
+
+	/**
+	 * Picks a level for a new node: one, plus one more with probability 1/4 each time.
+	 *
+	 * @return A level from 1 to MAX_LEVEL.
+	 * @author TerrellAW
+	 */
+	private int randomLevel() {
+		int x = seed; // Xorshift
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		seed = x;
+
+		int newLevel = 1;
+		while (newLevel < MAX_LEVEL && (x & 3) == 0) {
+			newLevel++;
+			x >>>= 2;
+		}
+		return newLevel;
+	}
+
+	/**
+	 * Private subclass for iterating through <code>IndexableSkipList</code>.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class SkipIterator implements Iterator<E> {
+		private SkipNode node = head.next;
+		private int expectedModCount = modCount;
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return node != null;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @throws ConcurrentModificationException if the list was structurally modified during iteration.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException, ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (node == null) {
+				throw new NoSuchElementException("No more elements");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)node.element;
+			node = node.next;
+			return element;
+		}
+	}
+}
@@ -0,0 +1,447 @@
+package implementations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Array list with a side hash index from each element to the positions it occupies.
+ * Elements are stored in an underlying <code>MyArrayList</code>, so positional access stays O(1),
+ * while <code>contains</code> and <code>indexOf</code> become O(1) hash lookups and <code>remove(E)</code>
+ * finds its element without a scan (the removal itself still shifts the array, as in <code>MyArrayList</code>).
+ *
+ * Memory overhead: every distinct element costs one hash map entry and one <code>IntArrayList</code>
+ * of positions, roughly 80 bytes on a 64-bit JVM, plus 4 bytes for each occurrence.
+ * A list of distinct strings therefore uses about three to four times the memory of a plain <code>MyArrayList</code>.
+ *
+ * The index can be built lazily: in lazy mode no index is kept until the first lookup
+ * (<code>contains</code>, <code>indexOf</code> or <code>remove(E)</code>), so lists that are only
+ * built and walked never pay for it.
+ *
+ * Elements must have <code>hashCode</code> and <code>equals</code> that agree and do not change while in the list.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class IndexedArrayList<E> implements ListADT<E>
+{
+	private MyArrayList<E> list;
+	private Map<E, IntArrayList> index; // Element to its positions in ascending order, null until built
+	private boolean lazyIndex;
+
+	/**
+	 * Constructor method that keeps the index up to date from the first element.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list with an empty index is initialized.
+	 *
+	 * @return A new IndexedArrayList object.
+	 * @author TerrellAW
+	 */
+	public IndexedArrayList() {
+		this(false);
+	}
+
+	/**
+	 * Constructor method with a choice of when the index is built.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list is initialized, with an index unless lazyIndex is true.
+	 *
+	 * @param lazyIndex True to build the index on the first lookup instead of keeping it from the start.
+	 * @return A new IndexedArrayList object.
+	 * @author TerrellAW
+	 */
+	public IndexedArrayList( boolean lazyIndex ) {
+		this.list = new MyArrayList<>();
+		this.lazyIndex = lazyIndex;
+		this.index = lazyIndex ? null : new HashMap<>();
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return list.size();
+	}
+
+	/**
+	 * Clears all elements from the list and its index. In lazy mode the index is dropped until the next lookup.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		list.clear();
+		index = lazyIndex ? null : new HashMap<>();
+	}
+
+	/**
+	 * Adds a new element at the specified index in the list. Positions recorded for the elements after
+	 * the index are shifted along with them.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (index == list.size()) {
+			return add(toAdd);
+		}
+
+		list.add(index, toAdd);
+
+		if (this.index != null) {
+			shiftPositions(index, 1);
+			insertPosition(positionsOf(toAdd), index);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of the list.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		list.add(toAdd);
+
+		if (index != null) {
+			positionsOf(toAdd).add(list.size() - 1); // Largest position so far, list stays ascending
+		}
+		return true;
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of this list.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		int start = list.size();
+		list.addAll(toAdd);
+
+		if (index != null) {
+			for (int i = start; i < list.size(); i++) {
+				positionsOf(list.get(i)).add(i);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		return list.get(index);
+	}
+
+	/**
+	 * Removes the element at the specified index from the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		E element = list.remove(index);
+
+		if (this.index != null) {
+			removePosition(element, index);
+			shiftPositions(index + 1, -1);
+		}
+		return element;
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element, located through the index.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		int position = indexOf(toRemove);
+
+		if (position == -1) {
+			return null;
+		}
+		return remove(position);
+	}
+
+	/**
+	 * Replaces the element at the specified index with a new element.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		E element = list.set(index, toChange);
+
+		if (this.index != null) {
+			removePosition(element, index);
+			insertPosition(positionsOf(toChange), index);
+		}
+		return element;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	/**
+	 * Checks if the list contains a specific element with a hash lookup.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for in the list.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		return buildIndex().containsKey(toFind);
+	}
+
+	/**
+	 * Returns the lowest index of the specified element with a hash lookup.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index is returned if the element is found, otherwise negative one.
+	 *
+	 * @param target The element to search for.
+	 * @return Index of the first occurrence if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( E target ) {
+		if (target == null) {
+			return -1;
+		}
+
+		IntArrayList positions = buildIndex().get(target);
+		return positions == null ? -1 : positions.get(0);
+	}
+
+	/**
+	 * Returns the index, building it from the list contents first if it has not been built yet.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The index covers every element of the list.
+	 *
+	 * @return The element to positions index.
+	 * @author TerrellAW
+	 */
+	private Map<E, IntArrayList> buildIndex() {
+		if (index == null) {
+			index = new HashMap<>();
+			for (int i = 0; i < list.size(); i++) {
+				positionsOf(list.get(i)).add(i);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the positions recorded for an element, creating an empty entry if there is none.
+	 *
+	 * @param element The element to look up.
+	 * @return The ascending positions of the element.
+	 * @author TerrellAW
+	 */
+	private IntArrayList positionsOf( E element ) {
+		IntArrayList positions = index.get(element);
+
+		if (positions == null) {
+			positions = new IntArrayList(1); // Most elements appear once
+			index.put(element, positions);
+		}
+		return positions;
+	}
+
+	/**
+	 * Inserts a position into an ascending list of positions.
+	 *
+	 * @param positions The positions of one element.
+	 * @param position The position to record.
+	 * @author TerrellAW
+	 */
+	private void insertPosition( IntArrayList positions, int position ) {
+		int low = 0;
+		int high = positions.size();
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (positions.get(mid) < position) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		positions.add(low, position);
+	}
+
+	/**
+	 * Forgets one position of an element, dropping the element from the index when none are left.
+	 *
+	 * @param element The element that was at the position.
+	 * @param position The position to forget.
+	 * @author TerrellAW
+	 */
+	private void removePosition( E element, int position ) {
+		IntArrayList positions = index.get(element);
+		positions.removeValue(position);
+
+		if (positions.isEmpty()) {
+			index.remove(element);
+		}
+	}
+
+	/**
+	 * Adds a delta to every recorded position at or after a starting index, after elements have shifted.
+	 * This is O(n) like the array shift that caused it.
+	 *
+	 * @param from The first position to adjust.
+	 * @param delta The amount to add to each position.
+	 * @author TerrellAW
+	 */
+	private void shiftPositions( int from, int delta ) {
+		for (IntArrayList positions : index.values()) {
+			for (int i = positions.size() - 1; i >= 0; i--) {
+				int position = positions.get(i);
+				if (position < from) {
+					break; // Ascending, so every earlier position is also before the shift
+				}
+				positions.set(i, position + delta);
+			}
+		}
+	}
+
+	/**
+	 * Converts the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		return list.toArray(toHold);
+	}
+
+	/**
+	 * Returns an array containing the elements of the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A copy of the elements is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		return list.toArray();
+	}
+
+	/**
+	 * Returns an iterator.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return list.iterator();
+	}
+}
@@ -0,0 +1,486 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.LongIterator;
+
+/**
+ * Dynamically allocated array of primitive <code>long</code> values.
+ * Mirrors the operations of <code>MyArrayList</code> but stores the values in a <code>long[]</code>,
+ * so no element is ever boxed and the list costs 8 bytes per element instead of a reference plus a boxed object.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class LongArrayList
+{
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final long[] EMPTY_ARRAY = new long[0];
+
+	private long[] array; // Backing buffer, its length is the capacity
+	private int size; // Number of slots in the buffer that hold values
+	private int modCount; // Incremented on every structural change, checked by iterators to fail fast
+
+	/**
+	 * Constructor method.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty array is initialized when LongArrayList object is instantiated.
+	 *
+	 * @return A new LongArrayList object with initialized array.
+	 * @author TerrellAW
+	 */
+	public LongArrayList() {
+		this.array = EMPTY_ARRAY;
+		this.size = 0;
+	}
+
+	/**
+	 * Constructor method with an initial capacity.
+	 *
+	 * Precondition: The initial capacity is not negative.
+	 *
+	 * Postcondition: Empty list is initialized with room for the given number of values.
+	 *
+	 * @param initialCapacity The number of values the list can hold before it has to grow.
+	 * @return A new LongArrayList object with a backing array of the given capacity.
+	 * @throws IllegalArgumentException if the initial capacity is negative.
+	 * @author TerrellAW
+	 */
+	public LongArrayList( int initialCapacity ) throws IllegalArgumentException {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+		}
+
+		this.array = initialCapacity == 0 ? EMPTY_ARRAY : new long[initialCapacity];
+		this.size = 0;
+	}
+
+	/**
+	 * Returns the number of values in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Clears all values from the list. The capacity of the backing array is kept.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Increases the capacity of the list, if necessary, so it can hold at least the given number of values.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The backing array can hold at least minCapacity values without growing.
+	 *
+	 * @param minCapacity The desired minimum capacity.
+	 * @author TerrellAW
+	 */
+	public void ensureCapacity( int minCapacity ) {
+		if (minCapacity > array.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Trims the capacity of the list down to its current size.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The backing array is exactly as long as the list.
+	 *
+	 * @author TerrellAW
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = size == 0 ? EMPTY_ARRAY : Arrays.copyOf(array, size);
+		}
+	}
+
+	/**
+	 * Grows the backing array by half its length, the same policy as <code>MyArrayList</code>.
+	 *
+	 * Precondition: minCapacity is greater than the current capacity.
+	 *
+	 * Postcondition: The backing array can hold at least minCapacity values.
+	 *
+	 * @param minCapacity The minimum capacity required.
+	 * @throws OutOfMemoryError if the required capacity overflows an int.
+	 * @author TerrellAW
+	 */
+	private void grow( int minCapacity ) {
+		if (minCapacity < 0) { // Overflowed while adding to the size
+			throw new OutOfMemoryError("Required array size too large");
+		}
+
+		int newCapacity = array.length + (array.length >> 1);
+
+		if (newCapacity < DEFAULT_CAPACITY) {
+			newCapacity = DEFAULT_CAPACITY;
+		}
+		if (newCapacity < minCapacity || newCapacity < 0) { // Not enough room, or overflowed past Integer.MAX_VALUE
+			newCapacity = minCapacity;
+		}
+
+		array = Arrays.copyOf(array, newCapacity);
+	}
+
+	/**
+	 * Adds a new value at the specified index in the list.
+	 *
+	 * Precondition: Index is within bounds.
+	 *
+	 * Postcondition: The value is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new value will be added.
+	 * @param toAdd The value to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, long toAdd ) throws IndexOutOfBoundsException {
+		if (index < 0 || index > size) { // Throw error if index is out of bounds
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		if (size == array.length) {
+			grow(size + 1);
+		}
+
+		System.arraycopy(array, index, array, index + 1, size - index); // Shift tail one slot right in place
+		array[index] = toAdd;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Adds a new value to the end of the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The value is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The value to add to the list.
+	 * @return True once the value is added.
+	 * @author TerrellAW
+	 */
+	public boolean add( long toAdd ) {
+		if (size == array.length) {
+			grow(size + 1);
+		}
+		array[size++] = toAdd;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Adds all values from another LongArrayList to the end of this list with a single copy.
+	 *
+	 * Precondition: The list to add is not null.
+	 *
+	 * Postcondition: All values from the specified list are added to this list in order.
+	 *
+	 * @param toAdd The list of values to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( LongArrayList toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add values from a null list");
+		}
+
+		int count = toAdd.size;
+		ensureCapacity(size + count);
+		System.arraycopy(toAdd.array, 0, array, size, count);
+		size += count;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Retrieves the value at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The value at the specified index is returned.
+	 *
+	 * @param index The position of the value to retrieve.
+	 * @return The value at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public long get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+		return array[index];
+	}
+
+	/**
+	 * Removes the value at the specified index from the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The value at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the value to remove.
+	 * @return The removed value.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public long remove( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		long value = array[index];
+		fastRemove(index);
+
+		return value;
+	}
+
+	/**
+	 * Removes the first occurrence of the specified value from the list.
+	 * Named differently from <code>remove(int)</code> because an index and a value would otherwise be ambiguous.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The first occurrence of the value is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The value to remove from the list.
+	 * @return True if the value was found and removed, otherwise false.
+	 * @author TerrellAW
+	 */
+	public boolean removeValue( long toRemove ) {
+		int index = indexOf(toRemove);
+
+		if (index == -1) {
+			return false;
+		}
+
+		fastRemove(index);
+		return true;
+	}
+
+	/**
+	 * Removes the value at the given index by shifting the tail of the backing array left in place.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The value is removed and the size decreases by one.
+	 *
+	 * @param index The position of the value to remove.
+	 * @author TerrellAW
+	 */
+	private void fastRemove( int index ) {
+		int numMoved = size - index - 1;
+
+		if (numMoved > 0) {
+			System.arraycopy(array, index + 1, array, index, numMoved);
+		}
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Replaces the value at the specified index with a new value.
+	 *
+	 * Precondition: The index is within bounds.
+	 *
+	 * Postcondition: The value at the specified index is replaced and the original value is returned.
+	 *
+	 * @param index The position of the value to replace.
+	 * @param toChange The new value to set.
+	 * @return The replaced value.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public long set( int index, long toChange ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		long value = array[index];
+		array[index] = toChange;
+
+		return value;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no values, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Searches for a value in the list using linear search.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index of the first occurrence is returned if the value is found, otherwise negative one.
+	 *
+	 * @param target The value to search for.
+	 * @return Index if the value is found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( long target ) {
+		long[] values = array;
+		int length = size;
+
+		for (int index = 0; index < length; index++) {
+			if (values[index] == target) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if the list contains a specific value.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the value is found, otherwise false.
+	 *
+	 * @param toFind The value to search for in the list.
+	 * @return True if the value is found, otherwise false.
+	 * @author TerrellAW
+	 */
+	public boolean contains( long toFind ) {
+		return indexOf(toFind) != -1;
+	}
+
+	/**
+	 * Copies the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the values of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the values. If too small, a new one will be created.
+	 * @return An array containing all the values of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	public long[] toArray( long[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size) {
+			return Arrays.copyOf(array, size);
+		}
+
+		System.arraycopy(array, 0, toHold, 0, size);
+		return toHold;
+	}
+
+	/**
+	 * Returns an array containing the values of the list, trimmed to its size.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A copy of the occupied part of the internal array is returned.
+	 *
+	 * @return An array containing all the values of the list.
+	 * @author TerrellAW
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(array, size);
+	}
+
+	/**
+	 * Returns a primitive iterator.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public LongIterator iterator() {
+		return new ArrayIterator();
+	}
+
+	/**
+	 * Private subclass for iterating through <code>LongArrayList</code> without boxing.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class ArrayIterator implements LongIterator {
+		private int cursor = 0;
+		private int expectedModCount = modCount;
+
+		/**
+		 * Checks if there are more values after the cursor.
+		 *
+		 * Precondition: None.
+		 *
+		 * Postcondition: True is returned if there are more values, otherwise false.
+		 *
+		 * @return True if there are more values, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		/**
+		 * Returns the next value in the iteration.
+		 *
+		 * Precondition: There is a next value and the list has not been structurally modified since the iterator was created.
+		 *
+		 * Postcondition: The next value is returned and the cursor advances.
+		 *
+		 * @return The next value in the iteration.
+		 * @throws NoSuchElementException if there is no next value.
+		 * @throws ConcurrentModificationException if the list was structurally modified during iteration.
+		 * @author TerrellAW
+		 */
+		public long nextLong() throws NoSuchElementException, ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (cursor >= size) {
+				throw new NoSuchElementException("No more values");
+			}
+			return array[cursor++];
+		}
+	}
+}
@@ -0,0 +1,574 @@
+package implementations;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+import utilities.BinaryCodec;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Read-only list backed by a memory-mapped file written by <code>save</code>.
+ * Opening maps the file and checks its header, which takes milliseconds whatever the list size.
+ * Nothing is decoded until it is read: <code>get</code> decodes only the requested element.
+ * Pages are loaded by the operating system when first read and shared with the page cache.
+ *
+ * File layout, all big-endian:
+ * <pre>
+ * int magic, int version, int count, int elementSize (or -1 for variable size)
+ * int[count + 1] offsets       only for variable-size elements, relative to the data start
+ * byte[] data                  the encoded elements back to back
+ * </pre>
+ *
+ * A single mapping is limited to 2 GB, so larger lists must be split across files.
+ * <code>close</code> releases the mapping straight away; otherwise it is released when the list is
+ * garbage collected. Close a list before deleting or replacing its file: Windows refuses both while
+ * the file is mapped.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class MappedList<E> implements ListADT<E>, AutoCloseable
+{
+	private static final int MAGIC = 0x4D4C5354; // "MLST"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+	private ByteBuffer buffer; // Whole file, read-only, null once closed
+	private final BinaryCodec<E> codec;
+	private final int size;
+	private final int elementSize; // Bytes per element, or VARIABLE_SIZE
+	private final int dataStart; // Index of the first data byte in the buffer
+
+	/**
+	 * Creates a view over a mapped file whose header has been checked.
+	 *
+	 * @param buffer The mapped file.
+	 * @param codec The codec the file was written with.
+	 * @param size The number of elements.
+	 * @param elementSize Bytes per element, or VARIABLE_SIZE.
+	 */
+	private MappedList( ByteBuffer buffer, BinaryCodec<E> codec, int size, int elementSize ) {
+		this.buffer = buffer;
+		this.codec = codec;
+		this.size = size;
+		this.elementSize = elementSize;
+		this.dataStart = HEADER_BYTES + (elementSize == BinaryCodec.VARIABLE_SIZE ? (size + 1) * Integer.BYTES : 0);
+	}
+
+	/**
+	 * Writes the elements of a list to a file in the mapped list format, replacing any existing file.
+	 * Elements are encoded and streamed one at a time, so the whole list is never held twice in memory.
+	 * The list is written to a temporary file in the same directory, which is then moved over the target
+	 * in one step. The old file is never truncated, so lists still mapping it keep reading its old contents.
+	 *
+	 * Precondition: None of the arguments are null and the list holds no nulls.
+	 *
+	 * Postcondition: The file holds the elements in order and can be opened with <code>open</code>.
+	 *
+	 * @param list The list to save, for example a <code>MyArrayList</code>.
+	 * @param codec The codec that encodes the elements.
+	 * @param file The file to write.
+	 * @throws NullPointerException if any argument is null.
+	 * @throws IllegalArgumentException if an encoding has the wrong length for a fixed-size codec, or the file would exceed 2 GB.
+	 * @throws IOException if the file cannot be written.
+	 * @author TerrellAW
+	 */
+	public static <E> void save( ListADT<? extends E> list, BinaryCodec<E> codec, Path file ) throws NullPointerException, IllegalArgumentException, IOException {
+		if (list == null || codec == null || file == null) {
+			throw new NullPointerException("List, codec and file cannot be null");
+		}
+
+		int count = list.size();
+		int elementSize = codec.fixedSize();
+		boolean variable = elementSize == BinaryCodec.VARIABLE_SIZE;
+		long dataStart = HEADER_BYTES + (variable ? (count + 1L) * Integer.BYTES : 0);
+		int[] offsets = variable ? new int[count + 1] : null;
+
+		Path directory = file.toAbsolutePath().getParent();
+		Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		boolean moved = false;
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				channel.position(dataStart);
+				OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+				long written = 0;
+				Iterator<? extends E> it = list.iterator();
+
+				for (int i = 0; i < count; i++) {
+					byte[] bytes = codec.encode(it.next());
+					if (!variable && bytes.length != elementSize) {
+						throw new IllegalArgumentException("Encoding of element " + i + " is " + bytes.length + " bytes, expected " + elementSize);
+					}
+					if (variable) {
+						offsets[i] = (int) written;
+					}
+					written += bytes.length;
+					if (dataStart + written > Integer.MAX_VALUE) {
+						throw new IllegalArgumentException("List is too large for one mapped file");
+					}
+					out.write(bytes);
+				}
+				out.flush(); // Not closed: that would close the channel before the header is written
+
+				ByteBuffer header = ByteBuffer.allocate((int) dataStart);
+				header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(elementSize);
+				if (variable) {
+					offsets[count] = (int) written;
+					for (int offset : offsets) {
+						header.putInt(offset);
+					}
+				}
+				header.flip();
+				for (long position = 0; header.hasRemaining();) {
+					position += channel.write(header, position);
+				}
+			}
+
+			try {
+				Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			moved = true;
+		} finally {
+			if (!moved) {
+				Files.deleteIfExists(temp);
+			}
+		}
+	}
+
+	/**
+	 * Maps a file written by <code>save</code> and returns a read-only list over it.
+	 *
+	 * Precondition: The file was written by <code>save</code> with a codec of the same element size.
+	 *
+	 * Postcondition: A list view over the file is returned. It stays valid until <code>close</code>, even if the file is replaced by <code>save</code>.
+	 *
+	 * @param file The file to map.
+	 * @param codec The codec that decodes the elements.
+	 * @return A read-only list over the file.
+	 * @throws NullPointerException if either argument is null.
+	 * @throws IllegalArgumentException if the codec does not match the element size in the file.
+	 * @throws IOException if the file cannot be read or is not a mapped list file.
+	 * @author TerrellAW
+	 */
+	public static <E> MappedList<E> open( Path file, BinaryCodec<E> codec ) throws NullPointerException, IllegalArgumentException, IOException {
+		if (file == null || codec == null) {
+			throw new NullPointerException("File and codec cannot be null");
+		}
+
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Not a mapped list file: " + file);
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		boolean valid = false;
+		try {
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+				throw new IOException("Not a mapped list file: " + file);
+			}
+			int count = buffer.getInt(8);
+			int elementSize = buffer.getInt(12);
+			if (elementSize != codec.fixedSize()) {
+				throw new IllegalArgumentException("File holds elements of size " + elementSize + ", codec expects " + codec.fixedSize());
+			}
+
+			boolean variable = elementSize == BinaryCodec.VARIABLE_SIZE;
+			long dataStart = HEADER_BYTES + (variable ? (count + 1L) * Integer.BYTES : 0);
+			if (count < 0 || dataStart > buffer.capacity()) {
+				throw new IOException("Mapped list file is truncated or corrupt: " + file);
+			}
+			long dataLength = variable ? buffer.getInt((int) dataStart - Integer.BYTES) : (long) count * elementSize;
+			if (dataStart + dataLength != buffer.capacity()) {
+				throw new IOException("Mapped list file is truncated or corrupt: " + file);
+			}
+			valid = true;
+			return new MappedList<>(buffer, codec, count, elementSize);
+		} finally {
+			if (!valid) {
+				BufferCleaner.release(buffer); // Unmap now, so the rejected file can be deleted
+			}
+		}
+	}
+
+	/**
+	 * Releases the mapping straight away. Reads afterwards throw an <code>IllegalStateException</code>
+	 * instead of touching unmapped memory. It must not be called while other threads are reading the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The file is unmapped and can be deleted or replaced. Calling this twice has no effect.
+	 *
+	 * @author TerrellAW
+	 */
+	@Override
+	public void close() {
+		ByteBuffer released = buffer;
+		if (released != null) {
+			buffer = null; // Reads check this before every access
+			BufferCleaner.release(released);
+		}
+	}
+
+	/**
+	 * Returns the mapping, checking that the list has not been closed.
+	 *
+	 * @return The mapped file.
+	 * @throws IllegalStateException if the list has been closed.
+	 * @author TerrellAW
+	 */
+	private ByteBuffer mapped() throws IllegalStateException {
+		ByteBuffer mapped = buffer;
+		if (mapped == null) {
+			throw new IllegalStateException("Mapped list is closed");
+		}
+		return mapped;
+	}
+
+	/**
+	 * Returns the buffer index of an entry in the offset table.
+	 *
+	 * @param index The element index, up to and including size.
+	 * @return The index of the table entry.
+	 * @author TerrellAW
+	 */
+	private int offsetIndex( int index ) {
+		return HEADER_BYTES + index * Integer.BYTES;
+	}
+
+	/**
+	 * Returns the buffer index of the first byte of an element.
+	 *
+	 * @param index A valid element index.
+	 * @return The start of its encoding.
+	 * @author TerrellAW
+	 */
+	private int start( int index ) {
+		if (elementSize != BinaryCodec.VARIABLE_SIZE) {
+			return dataStart + index * elementSize;
+		}
+		return dataStart + mapped().getInt(offsetIndex(index));
+	}
+
+	/**
+	 * Returns the number of bytes in the encoding of an element.
+	 *
+	 * @param index A valid element index.
+	 * @return The encoded length.
+	 * @author TerrellAW
+	 */
+	private int length( int index ) {
+		if (elementSize != BinaryCodec.VARIABLE_SIZE) {
+			return elementSize;
+		}
+		ByteBuffer mapped = mapped();
+		return mapped.getInt(offsetIndex(index + 1)) - mapped.getInt(offsetIndex(index));
+	}
+
+	/**
+	 * Decodes the element at an index.
+	 *
+	 * @param index A valid element index.
+	 * @return The element.
+	 * @author TerrellAW
+	 */
+	private E decode( int index ) {
+		return codec.decode(mapped(), start(index), length(index));
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The size stored in the file header is returned.
+	 *
+	 * @return The number of elements.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Retrieves the element at the specified index, decoding only that element.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+		return decode(index);
+	}
+
+	/**
+	 * Checks if the list contains a specific element.
+	 * The target is encoded once and compared against the stored bytes, so no element is decoded.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		byte[] target = codec.encode(toFind);
+		for (int i = 0; i < size; i++) {
+			if (length(i) == target.length && matches(start(i), target)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Compares stored bytes with an encoding.
+	 *
+	 * @param from The buffer index to compare from.
+	 * @param target The encoding to compare with.
+	 * @return True if the bytes are equal.
+	 * @author TerrellAW
+	 */
+	private boolean matches( int from, byte[] target ) {
+		ByteBuffer mapped = mapped();
+		for (int i = 0; i < target.length; i++) {
+			if (mapped.get(from + i) != target[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Decodes every element into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		for (int i = 0; i < size; i++) {
+			toHold[i] = decode(i);
+		}
+		return toHold;
+	}
+
+	/**
+	 * Decodes every element into a new array.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = decode(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an iterator that decodes each element as it is reached.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new MappedIterator();
+	}
+
+	/**
+	 * Not supported, the list is read-only.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 * @author TerrellAW
+	 */
+	public void clear() throws UnsupportedOperationException {
+		throw readOnly();
+	}
+
+	/**
+	 * Not supported, the list is read-only.
+	 *
+	 * @param index Ignored.
+	 * @param toAdd Ignored.
+	 * @return Never returns.
+	 * @throws UnsupportedOperationException always.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws UnsupportedOperationException {
+		throw readOnly();
+	}
+
+	/**
+	 * Not supported, the list is read-only.
+	 *
+	 * @param toAdd Ignored.
+	 * @return Never returns.
+	 * @throws UnsupportedOperationException always.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws UnsupportedOperationException {
+		throw readOnly();
+	}
+
+	/**
+	 * Not supported, the list is read-only.
+	 *
+	 * @param toAdd Ignored.
+	 * @return Never returns.
+	 * @throws UnsupportedOperationException always.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws UnsupportedOperationException {
+		throw readOnly();
+	}
+
+	/**
+	 * Not supported, the list is read-only.
+	 *
+	 * @param index Ignored.
+	 * @return Never returns.
+	 * @throws UnsupportedOperationException always.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws UnsupportedOperationException {
+		throw readOnly();
+	}
+
+	/**
+	 * Not supported, the list is read-only.
+	 *
+	 * @param toRemove Ignored.
+	 * @return Never returns.
+	 * @throws UnsupportedOperationException always.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws UnsupportedOperationException {
+		throw readOnly();
+	}
+
+	/**
+	 * Not supported, the list is read-only.
+	 *
+	 * @param index Ignored.
+	 * @param toChange Ignored.
+	 * @return Never returns.
+	 * @throws UnsupportedOperationException always.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws UnsupportedOperationException {
+		throw readOnly();
+	}
+
+	/**
+	 * Builds the exception thrown by every mutating method.
+	 *
+	 * @return The exception to throw.
+	 * @author TerrellAW
+	 */
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("Mapped list is read-only");
+	}
+
+	/**
+	 * Private subclass for iterating through <code>MappedList</code>, decoding each element as it is reached.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class MappedIterator implements Iterator<E> {
+		private int cursor = 0;
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @throws IllegalStateException if the list has been closed.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException, IllegalStateException {
+			if (cursor >= size) {
+				throw new NoSuchElementException("No more elements");
+			}
+			return decode(cursor++);
+		}
+	}
+}
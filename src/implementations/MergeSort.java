@@ -0,0 +1,234 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable merge sort over a range of an object array, used by the array-backed lists to sort their
+ * backing arrays in place. Short runs are finished with binary insertion sort, already ordered halves
+ * skip the merge, and only the left half of each merge is copied to a scratch buffer.
+ *
+ * The parallel variant splits the range with fork-join until pieces fall under a threshold and then
+ * sorts them sequentially; each task owns the slice of the scratch buffer that lines up with its range.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+final class MergeSort
+{
+	private static final int INSERTION_THRESHOLD = 32; // Runs this short are sorted by insertion
+	static final int PARALLEL_THRESHOLD = 1 << 13; // Ranges this short are not worth forking
+
+	private MergeSort() {
+	}
+
+	/**
+	 * Sorts a range of an array with a stable merge sort.
+	 *
+	 * Precondition: The range is within the array and the comparator is not null.
+	 *
+	 * Postcondition: The range is sorted and equal elements keep their relative order.
+	 *
+	 * @param array The array to sort.
+	 * @param from The first index to sort, inclusive.
+	 * @param to The last index to sort, exclusive.
+	 * @param comparator The comparator that decides the order.
+	 * @author TerrellAW
+	 */
+	static <E> void sort( Object[] array, int from, int to, Comparator<? super E> comparator ) {
+		if (to - from < 2) {
+			return;
+		}
+
+		Object[] scratch = new Object[(to - from) / 2]; // Merges never hold more than a left half
+		mergeSort(array, scratch, 0, from, to, comparator);
+	}
+
+	/**
+	 * Sorts the unsorted tail of a range and merges it into the sorted run before it in one pass.
+	 *
+	 * Precondition: The range is within the array, the part before mid is sorted and the comparator is not null.
+	 *
+	 * Postcondition: The range is sorted, and equal elements from the sorted run stay ahead of equal elements from the tail.
+	 *
+	 * @param array The array holding both parts.
+	 * @param from Start of the sorted run.
+	 * @param mid End of the sorted run and start of the unsorted tail.
+	 * @param to End of the unsorted tail.
+	 * @param comparator The comparator that decides the order.
+	 * @author TerrellAW
+	 */
+	static <E> void sortTail( Object[] array, int from, int mid, int to, Comparator<? super E> comparator ) {
+		sort(array, mid, to, comparator);
+		if (from < mid && mid < to) {
+			merge(array, new Object[mid - from], 0, from, mid, to, comparator);
+		}
+	}
+
+	/**
+	 * Sorts a range of an array with a stable merge sort, splitting the work across the common fork-join pool.
+	 *
+	 * Precondition: The range is within the array and the comparator is not null.
+	 *
+	 * Postcondition: The range is sorted and equal elements keep their relative order.
+	 *
+	 * @param array The array to sort.
+	 * @param from The first index to sort, inclusive.
+	 * @param to The last index to sort, exclusive.
+	 * @param comparator The comparator that decides the order.
+	 * @author TerrellAW
+	 */
+	static <E> void parallelSort( Object[] array, int from, int to, Comparator<? super E> comparator ) {
+		if (to - from <= PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+			sort(array, from, to, comparator);
+			return;
+		}
+
+		Object[] scratch = new Object[to - from]; // Tasks take disjoint slices, so size it to the full range
+		ForkJoinPool.commonPool().invoke(new SortTask<E>(array, scratch, from, from, to, comparator));
+	}
+
+	/**
+	 * Recursively sorts a range using the scratch buffer for merges.
+	 *
+	 * @param array The array to sort.
+	 * @param scratch Buffer used to hold left halves while merging.
+	 * @param scratchStart The first scratch index this range may use.
+	 * @param from The first index to sort, inclusive.
+	 * @param to The last index to sort, exclusive.
+	 * @param comparator The comparator that decides the order.
+	 * @author TerrellAW
+	 */
+	private static <E> void mergeSort( Object[] array, Object[] scratch, int scratchStart, int from, int to, Comparator<? super E> comparator ) {
+		if (to - from <= INSERTION_THRESHOLD) {
+			insertionSort(array, from, to, comparator);
+			return;
+		}
+
+		int mid = (from + to) >>> 1;
+		mergeSort(array, scratch, scratchStart, from, mid, comparator);
+		mergeSort(array, scratch, scratchStart, mid, to, comparator);
+		merge(array, scratch, scratchStart, from, mid, to, comparator);
+	}
+
+	/**
+	 * Merges two adjacent sorted runs, copying only the left run out of the array.
+	 *
+	 * @param array The array holding both runs.
+	 * @param scratch Buffer used to hold the left run.
+	 * @param scratchStart The scratch index the left run is copied to.
+	 * @param from Start of the left run.
+	 * @param mid End of the left run and start of the right run.
+	 * @param to End of the right run.
+	 * @param comparator The comparator that decides the order.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> void merge( Object[] array, Object[] scratch, int scratchStart, int from, int mid, int to, Comparator<? super E> comparator ) {
+		if (comparator.compare((E)array[mid - 1], (E)array[mid]) <= 0) { // Runs are already in order
+			return;
+		}
+
+		int leftLength = mid - from;
+		System.arraycopy(array, from, scratch, scratchStart, leftLength);
+
+		int left = scratchStart;
+		int leftEnd = scratchStart + leftLength;
+		int right = mid;
+		int dest = from;
+
+		while (left < leftEnd && right < to) {
+			// Take from the right only when strictly smaller, which keeps equal elements stable
+			if (comparator.compare((E)array[right], (E)scratch[left]) < 0) {
+				array[dest++] = array[right++];
+			} else {
+				array[dest++] = scratch[left++];
+			}
+		}
+		System.arraycopy(scratch, left, array, dest, leftEnd - left); // Right leftovers are already in place
+		Arrays.fill(scratch, scratchStart, leftEnd, null); // Do not keep elements reachable from the buffer
+	}
+
+	/**
+	 * Sorts a short range with binary insertion sort.
+	 *
+	 * @param array The array to sort.
+	 * @param from The first index to sort, inclusive.
+	 * @param to The last index to sort, exclusive.
+	 * @param comparator The comparator that decides the order.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> void insertionSort( Object[] array, int from, int to, Comparator<? super E> comparator ) {
+		for (int i = from + 1; i < to; i++) {
+			E pivot = (E)array[i];
+			int low = from;
+			int high = i;
+
+			while (low < high) { // Find the slot after any equal elements
+				int mid = (low + high) >>> 1;
+				if (comparator.compare(pivot, (E)array[mid]) < 0) {
+					high = mid;
+				} else {
+					low = mid + 1;
+				}
+			}
+			System.arraycopy(array, low, array, low + 1, i - low);
+			array[low] = pivot;
+		}
+	}
+
+	/**
+	 * Fork-join task that sorts both halves of a range in parallel and then merges them.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private static class SortTask<E> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Object[] array;
+		private final Object[] scratch;
+		private final int base;
+		private final int from;
+		private final int to;
+		private final Comparator<? super E> comparator;
+
+		/**
+		 * Creates a task for one range.
+		 *
+		 * @param array The array to sort.
+		 * @param scratch Buffer shared by all tasks, sliced by index.
+		 * @param base The array index that maps to scratch index zero.
+		 * @param from The first index to sort, inclusive.
+		 * @param to The last index to sort, exclusive.
+		 * @param comparator The comparator that decides the order.
+		 */
+		SortTask( Object[] array, Object[] scratch, int base, int from, int to, Comparator<? super E> comparator ) {
+			this.array = array;
+			this.scratch = scratch;
+			this.base = base;
+			this.from = from;
+			this.to = to;
+			this.comparator = comparator;
+		}
+
+		/**
+		 * Sorts the range, forking while it is above the parallel threshold.
+		 */
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				mergeSort(array, scratch, from - base, from, to, comparator);
+				return;
+			}
+
+			int mid = (from + to) >>> 1;
+			invokeAll(new SortTask<E>(array, scratch, base, from, mid, comparator),
+					new SortTask<E>(array, scratch, base, mid, to, comparator));
+			merge(array, scratch, from - base, from, mid, to, comparator);
+		}
+	}
+}
@@ -1,6 +1,10 @@
 package implementations;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException; // Iterator interface contract specifies this
+import java.util.function.Predicate;
 
 import utilities.Iterator;
 import utilities.ListADT;
@@ -15,7 +19,12 @@ import utilities.ListADT;
  */
 public class MyArrayList<E> implements ListADT<E>
 {
-	private Object[] array;
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final Object[] EMPTY_ARRAY = new Object[0];
+
+	private Object[] array; // Backing buffer, its length is the capacity
+	private int size; // Number of slots in the buffer that hold elements
+	private int modCount; // Incremented on every structural change, checked by iterators to fail fast
 
 	/**
 	 * Constructor method.
@@ -28,7 +37,29 @@ public class MyArrayList<E> implements ListADT<E>
 	 * @author TerrellAW
 	 */
 	public MyArrayList() {
-		this.array = new Object[0];
+		this.array = EMPTY_ARRAY;
+		this.size = 0;
+	}
+
+	/**
+	 * Constructor method with an initial capacity.
+	 *
+	 * Precondition: The initial capacity is not negative.
+	 *
+	 * Postcondition: Empty list is initialized with room for the given number of elements.
+	 *
+	 * @param initialCapacity The number of elements the list can hold before it has to grow.
+	 * @return A new MyArrayList object with a backing array of the given capacity.
+	 * @throws IllegalArgumentException if the initial capacity is negative.
+	 * @author TerrellAW
+	 */
+	public MyArrayList( int initialCapacity ) throws IllegalArgumentException {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+		}
+
+		this.array = initialCapacity == 0 ? EMPTY_ARRAY : new Object[initialCapacity];
+		this.size = 0;
 	}
 
 	/**
@@ -42,12 +73,12 @@ public class MyArrayList<E> implements ListADT<E>
 	 * @author TerrellAW
 	 */
 	public int size() {
-		int size = array.length;
 		return size;
 	}
 	
 	/**
 	 * Clears all elements from the list by re-initializing it to an empty state.
+	 * The capacity of the backing array is kept so the list can be refilled without growing.
 	 *
 	 * Precondition: None.
 	 *
@@ -56,7 +87,68 @@ public class MyArrayList<E> implements ListADT<E>
 	 * @author TerrellAW
 	 */
 	public void clear() {
-		this.array = new Object[0];
+		Arrays.fill(array, 0, size, null); // Drop references so elements can be garbage collected
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Increases the capacity of the list, if necessary, so it can hold at least the given number of elements.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The backing array can hold at least minCapacity elements without growing.
+	 *
+	 * @param minCapacity The desired minimum capacity.
+	 * @author TerrellAW
+	 */
+	public void ensureCapacity( int minCapacity ) {
+		if (minCapacity > array.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Trims the capacity of the list down to its current size.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The backing array is exactly as long as the list.
+	 *
+	 * @author TerrellAW
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = size == 0 ? EMPTY_ARRAY : Arrays.copyOf(array, size);
+		}
+	}
+
+	/**
+	 * Grows the backing array geometrically (by half its length) so appends are amortized constant time.
+	 *
+	 * Precondition: minCapacity is greater than the current capacity.
+	 *
+	 * Postcondition: The backing array can hold at least minCapacity elements.
+	 *
+	 * @param minCapacity The minimum capacity required.
+	 * @throws OutOfMemoryError if the required capacity overflows an int.
+	 * @author TerrellAW
+	 */
+	private void grow( int minCapacity ) {
+		if (minCapacity < 0) { // Overflowed while adding to the size
+			throw new OutOfMemoryError("Required array size too large");
+		}
+
+		int newCapacity = array.length + (array.length >> 1);
+
+		if (newCapacity < DEFAULT_CAPACITY) {
+			newCapacity = DEFAULT_CAPACITY;
+		}
+		if (newCapacity < minCapacity || newCapacity < 0) { // Not enough room, or overflowed past Integer.MAX_VALUE
+			newCapacity = minCapacity;
+		}
+
+		array = Arrays.copyOf(array, newCapacity);
 	}
 	
 	/**
@@ -81,17 +173,14 @@ public class MyArrayList<E> implements ListADT<E>
 			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
 		}
 
-		Object[] firstSegment = new Object[index + 1]; // Create array to hold first segment with empty space
-		Object[] secondSegment = new Object[array.length - index]; // Create array to hold second segment
-
-		System.arraycopy(array, 0, firstSegment, 0, index); // Copy first segment to new array
-		System.arraycopy(array, index, secondSegment, 0, array.length - index); // Copy second segment to new array
-
-		firstSegment[index] = toAdd; // Add element to empty space at the end of first segment
-		array = new Object[firstSegment.length + secondSegment.length]; // Create new array large enough for both segments
+		if (size == array.length) { // Backing array is full, grow it geometrically
+			grow(size + 1);
+		}
 
-	    System.arraycopy(firstSegment, 0, array, 0, firstSegment.length); // Copy first segment into new array
-		System.arraycopy(secondSegment, 0, array, firstSegment.length, secondSegment.length); // Copy second segment into new array
+		System.arraycopy(array, index, array, index + 1, size - index); // Shift tail one slot right in place
+		array[index] = toAdd; // Add element to the freed slot
+		size++;
+		modCount++;
 
 		return true; // Add successful
 	}
@@ -113,10 +202,11 @@ public class MyArrayList<E> implements ListADT<E>
 			throw new NullPointerException("Element to add cannot be null");
 		}
 		
-		Object[] newArray = new Object[array.length + 1]; // Create new larger array
-	   	System.arraycopy(array, 0, newArray, 0, array.length); // Copy data from old array
-		newArray[newArray.length - 1] = toAdd; // Add element to the new array
-		array = newArray; // Replace old array with new array
+		if (size == array.length) { // Backing array is full, grow it geometrically
+			grow(size + 1);
+		}
+		array[size++] = toAdd; // Add element to the first free slot
+		modCount++;
 
 		return true; // Add successful
 	}
@@ -138,10 +228,70 @@ public class MyArrayList<E> implements ListADT<E>
 			throw new NullPointerException("Cannot add elements from a null list");
 		}
 
-		Iterator<? extends E> it = toAdd.iterator();
-		while (it.hasNext()) {
-			this.add(it.next());
+		int count = toAdd.size();
+		if (count == 0) {
+			return true;
+		}
+
+		ensureCapacity(size + count); // Grow once for the whole block
+
+		if (toAdd instanceof MyArrayList) { // Copy straight out of the other backing array
+			System.arraycopy(((MyArrayList<?>)toAdd).array, 0, array, size, count);
+		} else if (toAdd instanceof MyDLL) { // Walk the nodes once instead of indexing into them
+			MyDLLNode<? extends E> current = ((MyDLL<? extends E>)toAdd).firstNode();
+			for (int i = size; current != null; i++) {
+				array[i] = current.getElement();
+				current = current.getNext();
+			}
+		} else {
+			Iterator<? extends E> it = toAdd.iterator();
+			for (int i = size; it.hasNext(); i++) {
+				array[i] = it.next();
+			}
 		}
+		size += count;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Inserts all elements from another collection into this list, starting at the specified index.
+	 * The existing elements from the index onward are shifted right once to make room for the whole block.
+	 *
+	 * Precondition: The collection to add is not null and the index is within bounds.
+	 *
+	 * Postcondition: All elements from the specified collection are inserted in order at the index and the size of this list increases as needed.
+	 *
+	 * @param index The position where the first new element will be added.
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( int index, ListADT<? extends E> toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+		if (index < 0 || index > size()) { // Throw error if index is out of bounds
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+
+		// Adding a list into itself would shift the source while copying, so take a snapshot first
+		Object[] block = toAdd instanceof MyArrayList && toAdd != this ? ((MyArrayList<?>)toAdd).array : toAdd.toArray();
+		int count = toAdd.size();
+		if (count == 0) {
+			return true;
+		}
+
+		ensureCapacity(size + count); // Grow once for the whole block
+
+		System.arraycopy(array, index, array, index + count, size - index); // Shift tail right by the block length
+		System.arraycopy(block, 0, array, index, count); // Copy block into the gap
+		size += count;
+		modCount++;
+
 		return true;
 	}
 	
@@ -158,7 +308,7 @@ public class MyArrayList<E> implements ListADT<E>
 	 * @author TerrellAW
 	 */
 	public E get( int index ) throws IndexOutOfBoundsException {
-		if (index >= this.size()) {
+		if (index < 0 || index >= this.size()) {
 			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + this.size() + ")");
 		}
 		
@@ -180,50 +330,14 @@ public class MyArrayList<E> implements ListADT<E>
 	 * @author TerrellAW
 	 */
 	public E remove( int index ) throws IndexOutOfBoundsException { 
-		if (index < 0 || index > size()) { // Throw error if index is out of bounds
+		if (index < 0 || index >= size()) { // Throw error if index is out of bounds
 			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
 		}
 		
-		int newSize = array.length - 1;
-
-		if (newSize < 0) {
-			throw new IndexOutOfBoundsException("Index" + index + ", Size: " + size());
-		}
-		
 		@SuppressWarnings("unchecked")
 		E element = (E)array[index]; // Store element that will be removed
 
-		if (array.length == 1 && index == 0) {
-			this.clear();
-			return element;
-		}
-
-		if (array.length == 1 && index == 0) {
-			this.clear();
-			return element; // Return removed element
-		} else if (index == 0) {
-			Object[] newArray = new Object[newSize]; // Create smaller array
-
-			System.arraycopy(array, 1, newArray, 0, newSize); // Copy all but first element to new array
-			array = newArray;
-			return element;
-		} else if (index == newSize) {
-			Object[] newArray = new Object[newSize]; // Create smaller array
-
-			System.arraycopy(array, 0, newArray, 0, newSize); // Copy all but last element to new array
-			array = newArray;
-			return element; // Return removed element
-		}
-
-		Object[] firstSegment = new Object[index]; // Create array to hold first segment
-		Object[] secondSegment = new Object[newSize - index]; // Create array to hold second segment
-		
-		System.arraycopy(array, 0, firstSegment, 0, firstSegment.length); // Copy segment from before index
-		System.arraycopy(array, index + 1, secondSegment, 0, secondSegment.length); // Copy segment from after index
-		
-		array = new Object[firstSegment.length + secondSegment.length]; // Create new array large enough for both segments
-	    System.arraycopy(firstSegment, 0, array, 0, firstSegment.length); // Copy first segment into new array
-		System.arraycopy(secondSegment, 0, array, firstSegment.length, secondSegment.length); // Copy second segment into new array
+		fastRemove(index);
 
 		return element; // Return removed element
 	}
@@ -246,43 +360,118 @@ public class MyArrayList<E> implements ListADT<E>
 		}
 
 		int index = linearSearch(toRemove);
-		int newSize = array.length - 1;
 
-		if (array.length == 0 || index == -1) {
+		if (index == -1) {
 			return null;
 		}
 
 		@SuppressWarnings("unchecked")
 		E element = (E)array[index]; // Store element that will be removed
-		
-		if (array.length == 1 && index == 0) {
-			this.clear();
-			return element; // Return removed element
-		} else if (index == 0) {
-			Object[] newArray = new Object[newSize]; // Create smaller array
-
-			System.arraycopy(array, 1, newArray, 0, newSize); // Copy all but first element to new array
-			array = newArray;
-			return element;
-		} else if (index == newSize) {
-			Object[] newArray = new Object[newSize]; // Create smaller array
 
-			System.arraycopy(array, 0, newArray, 0, newSize); // Copy all but last element to new array
-			array = newArray;
-			return element; // Return removed element
+		fastRemove(index);
+
+		return element; // Return removed element
+	}
+
+	/**
+	 * Removes the element at the given index by shifting the tail of the backing array left in place.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element is removed, the vacated last slot is cleared and the size decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @author TerrellAW
+	 */
+	private void fastRemove( int index ) {
+		int numMoved = size - index - 1;
+
+		if (numMoved > 0) {
+			System.arraycopy(array, index + 1, array, index, numMoved); // Shift tail one slot left in place
 		}
+		array[--size] = null; // Clear stale reference so it can be garbage collected
+		modCount++;
+	}
 
-		Object[] firstSegment = new Object[index]; // Create array to hold first segment
-		Object[] secondSegment = new Object[newSize - index]; // Create array to hold second segment
-		
-		System.arraycopy(array, 0, firstSegment, 0, firstSegment.length); // Copy segment from before index
-		System.arraycopy(array, index + 1, secondSegment, 0, secondSegment.length); // Copy segment from after index
-		
-		array = new Object[firstSegment.length + secondSegment.length]; // Create new array large enough for both segments
-	    System.arraycopy(firstSegment, 0, array, 0, firstSegment.length); // Copy first segment into new array
-		System.arraycopy(secondSegment, 0, array, firstSegment.length, secondSegment.length); // Copy second segment into new array
+	/**
+	 * Removes every element from <code>fromIndex</code> (inclusive) to <code>toIndex</code> (exclusive)
+	 * with a single shift of the tail, however many elements are removed.
+	 *
+	 * Precondition: 0 <= fromIndex <= toIndex <= size.
+	 *
+	 * Postcondition: The elements in the range are removed, the freed slots are cleared and the size decreases by the range length.
+	 *
+	 * @param fromIndex The index of the first element to remove.
+	 * @param toIndex The index after the last element to remove.
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of this list.
+	 * @author TerrellAW
+	 */
+	public void removeRange( int fromIndex, int toIndex ) throws IndexOutOfBoundsException {
+		checkRange(fromIndex, toIndex, size);
 
-		return element; // Return removed element
+		if (fromIndex == toIndex) {
+			return;
+		}
+
+		System.arraycopy(array, toIndex, array, fromIndex, size - toIndex); // Shift tail left over the range once
+		int newSize = size - (toIndex - fromIndex);
+		Arrays.fill(array, newSize, size, null); // Clear stale references so they can be garbage collected
+		size = newSize;
+		modCount++;
+	}
+
+	/**
+	 * Removes every element that matches a predicate, compacting the backing array in one pass.
+	 * Kept elements are slid left over the removed ones in order, so filtering n elements costs O(n)
+	 * instead of one shift per removal.
+	 *
+	 * Precondition: The predicate is not null.
+	 *
+	 * Postcondition: No element matching the predicate remains, the kept elements are in their original order
+	 * and the freed slots are cleared.
+	 *
+	 * @param filter The predicate that returns true for elements to remove.
+	 * @return True if any element was removed, otherwise false.
+	 * @throws NullPointerException if the predicate is null.
+	 * @author TerrellAW
+	 */
+	public boolean removeIf( Predicate<? super E> filter ) throws NullPointerException {
+		if (filter == null) {
+			throw new NullPointerException("Predicate cannot be null");
+		}
+
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			@SuppressWarnings("unchecked")
+			E element = (E)array[i];
+			if (!filter.test(element)) {
+				array[kept++] = element; // Slide kept element down over the removed ones
+			}
+		}
+
+		if (kept == size) {
+			return false;
+		}
+
+		Arrays.fill(array, kept, size, null); // Clear stale references so they can be garbage collected
+		size = kept;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Checks that a range lies within a list of the given size.
+	 *
+	 * @param fromIndex The start of the range, inclusive.
+	 * @param toIndex The end of the range, exclusive.
+	 * @param length The size of the list.
+	 * @throws IndexOutOfBoundsException if the range is not within the list.
+	 * @author TerrellAW
+	 */
+	private static void checkRange( int fromIndex, int toIndex, int length ) throws IndexOutOfBoundsException {
+		if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + length);
+		}
 	}
 	
 	/**
@@ -302,7 +491,7 @@ public class MyArrayList<E> implements ListADT<E>
 	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
 		if (toChange == null) {
 			throw new NullPointerException("New value cannot be null");
-		} else if (index >= this.size()) {
+		} else if (index < 0 || index >= this.size()) {
 			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + this.size() + ")");
 		}
 
@@ -344,18 +533,17 @@ public class MyArrayList<E> implements ListADT<E>
 	 * @author TerrellAW
 	 */
 	public int linearSearch( E target ) { 
-		if (array == null || size() == 0) {
+		if (target == null) {
 			return -1;
 		}
 
-		int index = 0;
+		Object[] elements = array; // Local copy lets the JIT keep the array in a register
+		int length = size;
 
-		Iterator<? extends E> it = this.iterator();
-		while (it.hasNext()) {
-			if (it.next().equals(target)) {
+		for (int index = 0; index < length; index++) {
+			if (target.equals(elements[index])) {
 				return index;
 			}
-			index++;
 		}
 		return -1;
 	}
@@ -385,6 +573,64 @@ public class MyArrayList<E> implements ListADT<E>
 		return true;
 	}
 	
+	/**
+	 * Sorts the list in place with a stable merge sort that runs directly on the backing array.
+	 *
+	 * Precondition: The comparator is not null.
+	 *
+	 * Postcondition: The list is sorted and equal elements keep their relative order.
+	 *
+	 * @param comparator The comparator that decides the order.
+	 * @throws NullPointerException if the comparator is null.
+	 * @author TerrellAW
+	 */
+	public void sort( Comparator<? super E> comparator ) throws NullPointerException {
+		if (comparator == null) {
+			throw new NullPointerException("Comparator cannot be null");
+		}
+
+		MergeSort.sort(array, 0, size, comparator);
+		modCount++; // Reordering invalidates any open iterator
+	}
+
+	/**
+	 * Appends a batch of elements to a sorted list and merges them into place in one pass.
+	 * The batch is sorted on its own first, so adding m elements to n costs O(m log m + n)
+	 * instead of one binary-search insert and shift per element.
+	 *
+	 * @param batch The elements to add, in any order.
+	 * @param comparator The comparator the list is already sorted by.
+	 * @author TerrellAW
+	 */
+	void mergeSorted( Object[] batch, Comparator<? super E> comparator ) {
+		ensureCapacity(size + batch.length);
+		System.arraycopy(batch, 0, array, size, batch.length);
+		MergeSort.sortTail(array, 0, size, size + batch.length, comparator);
+		size += batch.length;
+		modCount++;
+	}
+
+	/**
+	 * Sorts the list in place with a stable merge sort that splits the work across the common
+	 * fork-join pool. Lists under a few thousand elements are sorted sequentially.
+	 *
+	 * Precondition: The comparator is not null and is safe to call from several threads.
+	 *
+	 * Postcondition: The list is sorted and equal elements keep their relative order.
+	 *
+	 * @param comparator The comparator that decides the order.
+	 * @throws NullPointerException if the comparator is null.
+	 * @author TerrellAW
+	 */
+	public void parallelSort( Comparator<? super E> comparator ) throws NullPointerException {
+		if (comparator == null) {
+			throw new NullPointerException("Comparator cannot be null");
+		}
+
+		MergeSort.parallelSort(array, 0, size, comparator);
+		modCount++; // Reordering invalidates any open iterator
+	}
+
 	/**
 	 * Converts the list into an array.
 	 *
@@ -411,25 +657,23 @@ public class MyArrayList<E> implements ListADT<E>
 			toHold = newArray;
 		}
 		
-		for (int i = 0; i < size(); i++) {
-			toHold[i] = this.get(i);
-		}
+		System.arraycopy(array, 0, toHold, 0, size);
 
 		return toHold;
 	}
 	
 	/**
-	 * Returns the internal array representation of the list.
+	 * Returns an array containing the elements of the list, trimmed to its size.
 	 *
 	 * Precondition: None.
 	 *
-	 * Postcondition: The internal array is returned.
+	 * Postcondition: A copy of the occupied part of the internal array is returned.
 	 *
-	 * @return The internal array representation of the list.
+	 * @return An array containing all the elements of the list.
 	 * @author TerrellAW
 	 */
 	public Object[] toArray() {
-		return array;
+		return Arrays.copyOf(array, size);
 	}
 	
 	/**
@@ -446,6 +690,421 @@ public class MyArrayList<E> implements ListADT<E>
 		return new ArrayIterator();
 	}
 	
+	/**
+	 * Returns a live view of the elements from <code>fromIndex</code> (inclusive) to <code>toIndex</code> (exclusive).
+	 * The view copies nothing: reads and writes go straight to this list's backing array, and
+	 * adds and removes through the view shift this list. Changing this list's structure other than
+	 * through the view makes the view stale, and any further use throws a <code>ConcurrentModificationException</code>.
+	 *
+	 * Precondition: 0 <= fromIndex <= toIndex <= size.
+	 *
+	 * Postcondition: A view over the range is returned; this list is unchanged.
+	 *
+	 * @param fromIndex The index of the first element in the view.
+	 * @param toIndex The index after the last element in the view.
+	 * @return A list view over the range.
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of this list.
+	 * @author TerrellAW
+	 */
+	public ListADT<E> subList( int fromIndex, int toIndex ) throws IndexOutOfBoundsException {
+		checkRange(fromIndex, toIndex, size);
+		return new SubList(fromIndex, toIndex - fromIndex);
+	}
+
+	/**
+	 * Private subclass for a live range view of <code>MyArrayList</code>.
+	 * Every operation translates its indexes by <code>offset</code> and then works on the enclosing list.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class SubList implements ListADT<E> {
+		private final int offset; // Index in the enclosing list of the view's first element
+		private int length; // Number of elements in the view
+		private int expectedModCount = modCount;
+
+		/**
+		 * Creates a view over a range of the enclosing list.
+		 *
+		 * @param offset The index of the first element in the view.
+		 * @param length The number of elements in the view.
+		 */
+		SubList( int offset, int length ) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		/**
+		 * Throws if the enclosing list changed structure other than through this view.
+		 *
+		 * @throws ConcurrentModificationException if the view is stale.
+		 * @author TerrellAW
+		 */
+		private void checkForComodification() throws ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		/**
+		 * Records a structural change made through this view.
+		 *
+		 * @param delta The change in the number of elements.
+		 * @author TerrellAW
+		 */
+		private void updateLength( int delta ) {
+			length += delta;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * Returns the number of elements in the view.
+		 *
+		 * Precondition: The enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: The current size of the view is returned.
+		 *
+		 * @return The number of elements in the view.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public int size() {
+			checkForComodification();
+			return length;
+		}
+
+		/**
+		 * Removes the view's range from the enclosing list with one shift.
+		 *
+		 * Precondition: The enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: The view is empty and the enclosing list is shorter by the view's former size.
+		 *
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public void clear() {
+			checkForComodification();
+			removeRange(offset, offset + length);
+			updateLength(-length);
+		}
+
+		/**
+		 * Inserts an element at an index within the view, shifting the rest of the enclosing list.
+		 *
+		 * Precondition: Element to add is not null, index is within the view's bounds, and the enclosing list
+		 * has not changed structure other than through this view.
+		 *
+		 * Postcondition: The element is at the index in the view and the view and enclosing list each grow by one.
+		 *
+		 * @param index The position in the view, 0 to the view's size.
+		 * @param toAdd The element to add.
+		 * @return True if the addition is successful, otherwise throws exceptions.
+		 * @throws NullPointerException if the element to add is null.
+		 * @throws IndexOutOfBoundsException if the index is outside the view.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+			checkForComodification();
+			if (toAdd == null) {
+				throw new NullPointerException("Element to add cannot be null");
+			}
+			if (index < 0 || index > length) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+			}
+
+			MyArrayList.this.add(offset + index, toAdd);
+			updateLength(1);
+			return true;
+		}
+
+		/**
+		 * Inserts an element just after the view's last element.
+		 *
+		 * Precondition: Element to add is not null and the enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: The element ends the view and the view and enclosing list each grow by one.
+		 *
+		 * @param toAdd The element to add.
+		 * @return True if the addition is successful, otherwise throws an exception.
+		 * @throws NullPointerException if the element to add is null.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public boolean add( E toAdd ) throws NullPointerException {
+			return add(length, toAdd);
+		}
+
+		/**
+		 * Inserts all elements of another collection just after the view's last element, with one shift.
+		 *
+		 * Precondition: The collection is not null and the enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: The elements end the view in order and the view and enclosing list grow by their count.
+		 *
+		 * @param toAdd The collection of elements to add, which may be this view.
+		 * @return True if the addition is successful, otherwise throws an exception.
+		 * @throws NullPointerException if the list to add is null.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+			checkForComodification();
+			if (toAdd == null) {
+				throw new NullPointerException("Cannot add elements from a null list");
+			}
+
+			int count = toAdd.size();
+			MyArrayList.this.addAll(offset + length, toAdd); // Snapshots the source when it is this view
+			updateLength(count);
+			return true;
+		}
+
+		/**
+		 * Retrieves the element at an index within the view.
+		 *
+		 * Precondition: The index is within the view's bounds and the enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: The element at the index in the view is returned.
+		 *
+		 * @param index The position in the view.
+		 * @return The element at the index.
+		 * @throws IndexOutOfBoundsException if the index is outside the view.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public E get( int index ) throws IndexOutOfBoundsException {
+			checkForComodification();
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + length + ")");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)array[offset + index];
+			return element;
+		}
+
+		/**
+		 * Removes the element at an index within the view from the enclosing list.
+		 *
+		 * Precondition: The index is within the view's bounds and the enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: The element is removed and the view and enclosing list each shrink by one.
+		 *
+		 * @param index The position in the view.
+		 * @return The removed element.
+		 * @throws IndexOutOfBoundsException if the index is outside the view.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public E remove( int index ) throws IndexOutOfBoundsException {
+			checkForComodification();
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+			}
+
+			E element = MyArrayList.this.remove(offset + index);
+			updateLength(-1);
+			return element;
+		}
+
+		/**
+		 * Removes the first occurrence of an element within the view from the enclosing list.
+		 * Occurrences outside the view are not considered.
+		 *
+		 * Precondition: The element to remove is not null and the enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: The first occurrence in the view is removed if present and the view shrinks by one.
+		 *
+		 * @param toRemove The element to remove.
+		 * @return The removed element, or null if it is not in the view.
+		 * @throws NullPointerException if the element to remove is null.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public E remove( E toRemove ) throws NullPointerException {
+			checkForComodification();
+			if (toRemove == null) {
+				throw new NullPointerException("Element to remove must exist");
+			}
+
+			int index = indexOf(toRemove);
+			return index == -1 ? null : remove(index);
+		}
+
+		/**
+		 * Replaces the element at an index within the view.
+		 *
+		 * Precondition: The new value is not null, the index is within the view's bounds, and the enclosing list
+		 * has not changed structure other than through this view.
+		 *
+		 * Postcondition: The element is replaced in the view and in the enclosing list, and the original is returned.
+		 *
+		 * @param index The position in the view.
+		 * @param toChange The new element.
+		 * @return The replaced element.
+		 * @throws NullPointerException if the new value is null.
+		 * @throws IndexOutOfBoundsException if the index is outside the view.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+			checkForComodification();
+			if (toChange == null) {
+				throw new NullPointerException("New value cannot be null");
+			} else if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + length + ")");
+			}
+
+			return MyArrayList.this.set(offset + index, toChange);
+		}
+
+		/**
+		 * Checks if the view is empty.
+		 *
+		 * Precondition: The enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: True is returned if the view has no elements, otherwise false.
+		 *
+		 * @return True if the view is empty, false if not.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public boolean isEmpty() {
+			return size() == 0;
+		}
+
+		/**
+		 * Checks if the view's range contains an element.
+		 *
+		 * Precondition: The element to find is not null and the enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: True is returned if the element is in the view, otherwise false.
+		 *
+		 * @param toFind The element to search for.
+		 * @return True if the element is in the view, otherwise false.
+		 * @throws NullPointerException if the element to find is null.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public boolean contains( E toFind ) throws NullPointerException {
+			checkForComodification();
+			if (toFind == null) {
+				throw new NullPointerException("Can't search for null");
+			}
+
+			return indexOf(toFind) != -1;
+		}
+
+		/**
+		 * Returns the index within the view of the first element equal to the target.
+		 *
+		 * @param target The element to search for.
+		 * @return The index of the element, or -1 if it is not in the view.
+		 * @author TerrellAW
+		 */
+		private int indexOf( E target ) {
+			for (int i = 0; i < length; i++) {
+				if (target.equals(array[offset + i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Copies the view's elements into an array.
+		 *
+		 * Precondition: The provided array is not null and the enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: An array holding the view's elements in order is returned. Array will be enlarged as needed.
+		 *
+		 * @param toHold The array to hold the elements. If too small, a new one will be created.
+		 * @return An array containing the view's elements.
+		 * @throws NullPointerException if the provided array is null.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public E[] toArray( E[] toHold ) throws NullPointerException {
+			checkForComodification();
+			if (toHold == null) {
+				throw new NullPointerException("Can't use null array.");
+			}
+
+			if (toHold.length < length) {
+				@SuppressWarnings("unchecked")
+				E[] newArray = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), length);
+				toHold = newArray;
+			}
+			System.arraycopy(array, offset, toHold, 0, length);
+			return toHold;
+		}
+
+		/**
+		 * Copies the view's elements into a new array.
+		 *
+		 * Precondition: The enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: A new array holding the view's elements in order is returned.
+		 *
+		 * @return An array containing the view's elements.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public Object[] toArray() {
+			checkForComodification();
+			return Arrays.copyOfRange(array, offset, offset + length);
+		}
+
+		/**
+		 * Returns an iterator over the view's elements. It fails fast, like the view itself.
+		 *
+		 * Precondition: The enclosing list has not changed structure other than through this view.
+		 *
+		 * Postcondition: An iterator is returned for traversing the view.
+		 *
+		 * @return An iterator for the view.
+		 * @throws ConcurrentModificationException if the enclosing list changed structure other than through this view.
+		 * @author TerrellAW
+		 */
+		public Iterator<E> iterator() {
+			checkForComodification();
+			return new Iterator<E>() {
+				private int cursor = 0;
+
+				/**
+				 * Checks if there are more elements in the view after the cursor.
+				 *
+				 * @return True if there are more elements, otherwise false.
+				 * @author TerrellAW
+				 */
+				public boolean hasNext() {
+					return cursor < length;
+				}
+
+				/**
+				 * Returns the next element of the view.
+				 *
+				 * @return The next element in the iteration.
+				 * @throws NoSuchElementException if there is no next element.
+				 * @throws ConcurrentModificationException if the enclosing list changed structure other than through the view.
+				 * @author TerrellAW
+				 */
+				public E next() throws NoSuchElementException, ConcurrentModificationException {
+					checkForComodification();
+					if (cursor >= length) {
+						throw new NoSuchElementException("No more elements");
+					}
+
+					@SuppressWarnings("unchecked")
+					E element = (E)array[offset + cursor++];
+					return element;
+				}
+			};
+		}
+	}
+
 	/**
 	 * Private subclass for iterating through <code>MyArrayList</code>.
 	 *
@@ -454,6 +1113,7 @@ public class MyArrayList<E> implements ListADT<E>
 	 */
 	private class ArrayIterator implements Iterator<E> {
 		private int cursor = 0;
+		private int expectedModCount = modCount;
 		
 		/**
 		 * Checks if there are more elements after the cursor.
@@ -466,25 +1126,33 @@ public class MyArrayList<E> implements ListADT<E>
 		 * @author TerrellAW
 		 */
 		public boolean hasNext() {
-			return cursor < size();
+			return cursor < size;
 		}
 		
 		/**
 		 * Returns the next element in the iteration.
+		 * Reads the backing array directly instead of going through <code>get(int)</code>.
 		 *
-		 * Precondition: There is a next element.
+		 * Precondition: There is a next element and the list has not been structurally modified since the iterator was created.
 		 *
 		 * Postcondition: The next element is returned and the cursor advances.
 		 *
 		 * @return The next element in the iteration.
 		 * @throws NoSuchElementException if there is no next element.
+		 * @throws ConcurrentModificationException if the list was structurally modified during iteration.
 		 * @author TerrellAW
 		 */
-		public E next() throws NoSuchElementException {
-			if (!hasNext()) {
+		public E next() throws NoSuchElementException, ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (cursor >= size) {
 				throw new NoSuchElementException("No more elements");
 			}
-			return get(cursor++);
+
+			@SuppressWarnings("unchecked")
+			E element = (E)array[cursor++];
+			return element;
 		}
 	}
 }
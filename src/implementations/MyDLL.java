@@ -1,32 +1,59 @@
 package implementations;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import utilities.Iterator;
 import utilities.ListADT;
+import utilities.ListIterator;
 
 /**
  * @author Riley Yonda
  * @version 1.8
  * A doubly linked list implementation.
  */
-public class MyDLL<E> implements Iterator<E>, ListADT<E> {
+public class MyDLL<E> implements ListADT<E> {
 
 	private MyDLLNode<E> head;
 	private MyDLLNode<E> tail;
 	private int size;
-	private MyDLLNode<E> cursor;
+	private int modCount; // Incremented on every structural change, checked by iterators to fail fast
+	private MyDLLNode<E> finger; // Last node reached by index, so sequential access steps from it
+	private int fingerIndex;
+	private final int poolLimit; // Most removed nodes kept for reuse, 0 disables recycling
+	private MyDLLNode<E> pool; // Recycled nodes, chained through next with elements cleared
+	private int pooled;
+	private boolean handedOut; // Set once any node has been returned to a caller; recycling then stops
 
     /**
      * Default constructor.
      * Starts with an empty list.
      */
 	public MyDLL() {
+		this(0);
+	}
+
+	/**
+	 * Creates an empty list that recycles up to poolLimit removed nodes for later adds,
+	 * so steady add/remove churn, as in a queue, stops allocating nodes.
+	 * Nodes removed by index, by element or through an iterator are recycled; nodes removed
+	 * through removeNode() and clear() are not.
+	 * A recycled node must never be reachable through a handle, so once any method that returns
+	 * a node (getHead(), getTail(), addNode(), addFirstNode(), insertBefore(), insertAfter())
+	 * has been called, the list stops recycling for good. Lists used only through the
+	 * ListADT methods, as MyQueue uses its list, keep recycling.
+	 * @param poolLimit most nodes to keep for reuse, 0 for none
+	 * @throws IllegalArgumentException if poolLimit is negative
+	 */
+	public MyDLL(int poolLimit) {
+		if (poolLimit < 0) {
+			throw new IllegalArgumentException("Pool limit cannot be negative: " + poolLimit);
+		}
+		this.poolLimit = poolLimit;
 		head = null;
 		tail = null;
 		size = 0;
-		cursor = null;
 	}
 
 	/**
@@ -38,12 +65,44 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 	}
 	/**
 	 * Method used to return the head of this list.
-	 * @return
+	 * The returned node is a handle into the list, so calling this turns off node
+	 * recycling for the rest of the list's life (see MyDLL(int)).
+	 * @return the first node, or null if the list is empty
 	 */
 	public MyDLLNode<E> getHead() {
+		handedOut = true;
 		return this.head;
 	}
 
+	/**
+	 * Method used to return the tail of this list.
+	 * The returned node is a handle into the list, so calling this turns off node
+	 * recycling for the rest of the list's life (see MyDLL(int)).
+	 * @return the last node, or null if the list is empty
+	 */
+	public MyDLLNode<E> getTail() {
+		handedOut = true;
+		return this.tail;
+	}
+
+	/**
+	 * Returns the head for walks inside this package that do not keep the node,
+	 * so unlike getHead() it leaves node recycling on.
+	 * @return the first node, or null if the list is empty
+	 */
+	MyDLLNode<E> firstNode() {
+		return this.head;
+	}
+
+	/**
+	 * Returns the tail for walks inside this package that do not keep the node,
+	 * so unlike getTail() it leaves node recycling on.
+	 * @return the last node, or null if the list is empty
+	 */
+	MyDLLNode<E> lastNode() {
+		return this.tail;
+	}
+
 	/**
 	 * Removes all elements from the list.
 	 */
@@ -52,7 +111,8 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 		head = null;
 		tail = null;
 		size = 0;
-		cursor = null;
+		finger = null;
+		modCount++;
 
 	}
 
@@ -72,40 +132,9 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 			throw new IndexOutOfBoundsException("Index not accepted");
 		}
 
-		MyDLLNode<E> newNode = new MyDLLNode<>(toAdd);
-
-		if (size == 0) {
-			head = newNode;
-			tail = newNode;
-		}
-
-		else if (index == 0) {
-			head.setPrev(newNode);
-			newNode.setNext(head);
-			head = newNode;
-		}
-
-		else if (index == size) {
-			tail.setNext(newNode);
-			newNode.setPrev(tail);
-			tail = newNode;
-		}
-
-		else {
-			MyDLLNode<E> current = head;
-
-			for (int i = 0; i < index; i++) {
-				current = current.getNext();
-			}
-
-			MyDLLNode<E> prev = current.getPrev();
-
-			prev.setNext(newNode);
-			newNode.setPrev(prev);
-			newNode.setNext(current);
-			current.setPrev(newNode);
-		}
-		size++;
+		MyDLLNode<E> newNode = linkBefore(newNode(toAdd), index == size ? null : node(index));
+		finger = newNode; // New node now sits at index, later nodes shifted right by one
+		fingerIndex = index;
 		return true;
 
 	}
@@ -122,18 +151,7 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 			throw new NullPointerException("Cannot add null element");
 		}
 
-		MyDLLNode<E> newNode = new MyDLLNode<>(toAdd);
-
-		if (size != 0) {
-			tail.setNext(newNode);
-			newNode.setPrev(tail);
-			tail = newNode;
-		} else {
-			head = newNode;
-			tail = newNode;
-		}
-
-		size++;
+		linkBefore(newNode(toAdd), null);
 		return true;
 	}
 
@@ -149,8 +167,18 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 			throw new NullPointerException("Cannot add from a null list");
 		}
 
-		for (int i = 0; i < toAdd.size(); i++) {
-			this.add(toAdd.get(i));
+		if (toAdd instanceof MyDLL) {
+			// Walk the source nodes once; count bounds the walk so adding a list to itself terminates
+			MyDLLNode<? extends E> current = ((MyDLL<? extends E>) toAdd).head; // Field, so the source keeps recycling
+			for (int count = toAdd.size(); count > 0; count--) {
+				this.add(current.getElement());
+				current = current.getNext();
+			}
+		} else {
+			Iterator<? extends E> it = toAdd.iterator();
+			while (it.hasNext()) {
+				this.add(it.next());
+			}
 		}
 
 		return true;
@@ -169,12 +197,7 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 		if (index < 0 || index >= size) {
 			throw new IndexOutOfBoundsException("Index: " + index);
 		}
-		MyDLLNode<E> current = head;
-
-		for (int i = 0; i < index; i++) {
-			current = current.getNext();
-		}
-		return current.getElement();
+		return node(index).getElement();
 	}
 
     /**
@@ -192,43 +215,14 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 
 		}
 
-		MyDLLNode<E> current = head;
-
-		for (int i = 0; i < index; i++) {
-
-			current = current.getNext();
-
-		}
+		MyDLLNode<E> current = node(index);
 
 		E data = current.getElement();
-
-		if (current == head && current == tail) {
-
-			head = null;
-
-			tail = null;
-
-		} else if (current == head) {
-
-			head = head.getNext();
-
-			head.setPrev(null);
-
-		} else if (current == tail) {
-
-			tail = tail.getPrev();
-
-			tail.setNext(null);
-
-		} else {
-
-			current.getPrev().setNext(current.getNext());
-
-			current.getNext().setPrev(current.getPrev());
-
-		}
-
-		size--;
+		MyDLLNode<E> next = current.getNext();
+		unlink(current);
+		recycle(current);
+		finger = next; // Node after the removed one now sits at index
+		fingerIndex = index;
 
 		return data;
 
@@ -256,24 +250,8 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 			if (toRemove.equals(current.getElement())) {
 
 				E data = current.getElement();
-
-				if (current == head && current == tail) {
-					head = null;
-					tail = null;
-				} 
-				else if (current == head) {
-					head = head.getNext();
-					head.setPrev(null);
-
-				} else if (current == tail) {
-					tail = tail.getPrev();
-					tail.setNext(null);
-				} 
-				else {
-					current.getPrev().setNext(current.getNext());
-					current.getNext().setPrev(current.getPrev());
-				}
-				size--;
+				unlink(current); // Also clears the finger, since the removed node's index is unknown
+				recycle(current);
 				return data;
 			}
 			current = current.getNext();
@@ -298,17 +276,375 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 		if (index < 0 || index >= size) {
 			throw new IndexOutOfBoundsException("Index: " + index);
 		}
-		MyDLLNode<E> current = head;
-
-		for (int i = 0; i < index; i++) {
-			current = current.getNext();
-		}
+		MyDLLNode<E> current = node(index);
 		E old = current.getElement();
 		current.setElement(toChange);
 		
 		return old;
 	}
 	
+	/**
+	 * Returns the node at a valid index, walking from whichever of the head, the tail
+	 * or the last node reached by index is closest. A loop over increasing indexes
+	 * therefore takes one step per call instead of walking from the head every time.
+	 * @param index index of the node, 0 to size - 1
+	 * @return the node at the index
+	 */
+	private MyDLLNode<E> node(int index) {
+		MyDLLNode<E> current;
+		int position;
+		int fromTail = size - 1 - index;
+
+		if (index <= fromTail) {
+			current = head;
+			position = 0;
+		} else {
+			current = tail;
+			position = size - 1;
+		}
+		if (finger != null && Math.abs(index - fingerIndex) < Math.min(index, fromTail)) {
+			current = finger;
+			position = fingerIndex;
+		}
+
+		while (position < index) {
+			current = current.getNext();
+			position++;
+		}
+		while (position > index) {
+			current = current.getPrev();
+			position--;
+		}
+
+		finger = current;
+		fingerIndex = index;
+		return current;
+	}
+
+	/**
+	 * Links a detached node in front of a node, or at the end.
+	 * Indexes after the new node shift, so the finger is cleared; callers that know
+	 * the index may set it again.
+	 * @param newNode node to link, with no neighbours
+	 * @param successor node to insert before, or null to append
+	 * @return the linked node
+	 */
+	private MyDLLNode<E> linkBefore(MyDLLNode<E> newNode, MyDLLNode<E> successor) {
+		MyDLLNode<E> predecessor = successor == null ? tail : successor.getPrev();
+
+		newNode.setPrev(predecessor);
+		newNode.setNext(successor);
+		if (predecessor == null) {
+			head = newNode;
+		} else {
+			predecessor.setNext(newNode);
+		}
+		if (successor == null) {
+			tail = newNode;
+		} else {
+			successor.setPrev(newNode);
+		}
+
+		size++;
+		modCount++;
+		if (successor != null) {
+			finger = null;
+		}
+		return newNode;
+	}
+
+	/**
+	 * Unlinks a node of this list in O(1) and clears its links, so a stale
+	 * handle to it is recognised as detached.
+	 * @param node node to remove
+	 */
+	private void unlink(MyDLLNode<E> node) {
+		MyDLLNode<E> prev = node.getPrev();
+		MyDLLNode<E> next = node.getNext();
+
+		if (prev == null) {
+			head = next;
+		} else {
+			prev.setNext(next);
+		}
+		if (next == null) {
+			tail = prev;
+		} else {
+			next.setPrev(prev);
+		}
+
+		node.setPrev(null);
+		node.setNext(null);
+		size--;
+		modCount++;
+		finger = null;
+	}
+
+	/**
+	 * Returns a detached node holding an element, reusing a recycled node if there is one.
+	 * @param element element for the node
+	 * @return a node with no neighbours
+	 */
+	private MyDLLNode<E> newNode(E element) {
+		MyDLLNode<E> node = pool;
+		if (node == null) {
+			return new MyDLLNode<>(element);
+		}
+		pool = node.getNext();
+		pooled--;
+		node.setNext(null);
+		node.setElement(element);
+		return node;
+	}
+
+	/**
+	 * Keeps an unlinked node for reuse if the pool has room. Its element is cleared
+	 * so the pool does not keep removed elements reachable.
+	 * @param node node already unlinked from this list
+	 */
+	private void recycle(MyDLLNode<E> node) {
+		if (pooled < poolLimit && !handedOut) {
+			node.setElement(null);
+			node.setNext(pool);
+			pool = node;
+			pooled++;
+		}
+	}
+
+	/**
+	 * Checks that a handle is a node currently linked into this list.
+	 * A linked node is either this list's head or its predecessor points back at it.
+	 * Handles must come from this list: a node still linked into another list
+	 * cannot be told apart in O(1).
+	 * @param node handle to check
+	 * @throws NullPointerException if node is null
+	 * @throws IllegalArgumentException if node has been removed
+	 */
+	private void checkLinked(MyDLLNode<E> node) throws NullPointerException, IllegalArgumentException {
+		if (node == null) {
+			throw new NullPointerException("Node cannot be null");
+		}
+		if (node.getPrev() == null ? head != node : node.getPrev().getNext() != node) {
+			throw new IllegalArgumentException("Node is not in this list");
+		}
+	}
+
+	/**
+	 * Adds an element to the end of the list and returns its node.
+	 * Keep the handle to remove or move the element later in O(1).
+	 * @param toAdd element to add
+	 * @return the new node
+	 * @throws NullPointerException if toAdd is null
+	 */
+	public MyDLLNode<E> addNode(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		handedOut = true; // Caller holds this node, so it must never be recycled
+		return linkBefore(newNode(toAdd), null);
+	}
+
+	/**
+	 * Adds an element to the front of the list and returns its node.
+	 * @param toAdd element to add
+	 * @return the new node
+	 * @throws NullPointerException if toAdd is null
+	 */
+	public MyDLLNode<E> addFirstNode(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		handedOut = true;
+		return linkBefore(newNode(toAdd), head);
+	}
+
+	/**
+	 * Inserts an element directly before a node of this list in O(1).
+	 * @param node handle of a node in this list
+	 * @param toAdd element to insert
+	 * @return the new node
+	 * @throws NullPointerException if node or toAdd is null
+	 * @throws IllegalArgumentException if node has been removed
+	 */
+	public MyDLLNode<E> insertBefore(MyDLLNode<E> node, E toAdd) throws NullPointerException, IllegalArgumentException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		checkLinked(node);
+		handedOut = true;
+		return linkBefore(newNode(toAdd), node);
+	}
+
+	/**
+	 * Inserts an element directly after a node of this list in O(1).
+	 * @param node handle of a node in this list
+	 * @param toAdd element to insert
+	 * @return the new node
+	 * @throws NullPointerException if node or toAdd is null
+	 * @throws IllegalArgumentException if node has been removed
+	 */
+	public MyDLLNode<E> insertAfter(MyDLLNode<E> node, E toAdd) throws NullPointerException, IllegalArgumentException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		checkLinked(node);
+		handedOut = true;
+		return linkBefore(newNode(toAdd), node.getNext());
+	}
+
+	/**
+	 * Removes a node of this list in O(1).
+	 * @param node handle of a node in this list
+	 * @return the element the node held
+	 * @throws NullPointerException if node is null
+	 * @throws IllegalArgumentException if node has already been removed
+	 */
+	public E removeNode(MyDLLNode<E> node) throws NullPointerException, IllegalArgumentException {
+		checkLinked(node);
+		unlink(node);
+		return node.getElement();
+	}
+
+	/**
+	 * Moves a node of this list to the front in O(1), without allocating.
+	 * Together with getTail() and removeNode() this gives an LRU list:
+	 * move an entry to the front on use and evict from the tail.
+	 * @param node handle of a node in this list
+	 * @throws NullPointerException if node is null
+	 * @throws IllegalArgumentException if node has been removed
+	 */
+	public void moveToFront(MyDLLNode<E> node) throws NullPointerException, IllegalArgumentException {
+		checkLinked(node);
+		if (node == head) {
+			return;
+		}
+		unlink(node);
+		linkBefore(node, head);
+	}
+
+	/**
+	 * Moves a node of this list to the back in O(1), without allocating.
+	 * Evicting from the head then removes the least recently moved entry.
+	 * @param node handle of a node in this list
+	 * @throws NullPointerException if node is null
+	 * @throws IllegalArgumentException if node has been removed
+	 */
+	public void moveToBack(MyDLLNode<E> node) throws NullPointerException, IllegalArgumentException {
+		checkLinked(node);
+		if (node == tail) {
+			return;
+		}
+		unlink(node);
+		linkBefore(node, null);
+	}
+
+	/**
+	 * Moves every element of another list to the end of this one in O(1) by
+	 * linking the two chains together. Nothing is copied and the other list is left empty.
+	 * Node handles from the other list now belong to this list.
+	 * @param other list to empty into this one
+	 * @throws NullPointerException if other is null
+	 * @throws IllegalArgumentException if other is this list
+	 */
+	public void splice(MyDLL<E> other) throws NullPointerException, IllegalArgumentException {
+		if (other == null) {
+			throw new NullPointerException("Cannot splice a null list");
+		}
+		if (other == this) {
+			throw new IllegalArgumentException("Cannot splice a list into itself");
+		}
+		if (other.size == 0) {
+			return;
+		}
+
+		if (size == 0) {
+			head = other.head;
+		} else {
+			tail.setNext(other.head);
+			other.head.setPrev(tail);
+		}
+		tail = other.tail;
+		size += other.size;
+		modCount++;
+		handedOut |= other.handedOut; // Handles into the other chain now point into this list
+
+		other.head = null;
+		other.tail = null;
+		other.size = 0;
+		other.finger = null;
+		other.modCount++;
+	}
+
+	/**
+	 * Splits this list before a node and returns the part from that node to the
+	 * end as a new list. No element is copied; the chain is cut in one place.
+	 * Finding the new sizes walks out from the node in both directions at once,
+	 * so it takes O(min(k, n - k)) steps, where k is the node's index.
+	 * @param node handle of the first node of the returned list
+	 * @return a new list holding the node and everything after it
+	 * @throws NullPointerException if node is null
+	 * @throws IllegalArgumentException if node is not in this list
+	 */
+	public MyDLL<E> splitAt(MyDLLNode<E> node) throws NullPointerException, IllegalArgumentException {
+		checkLinked(node);
+
+		MyDLLNode<E> forward = node;
+		MyDLLNode<E> backward = node;
+		int steps = 0;
+		while (forward != tail && backward != head) { // Whichever end is reached first fixes both sizes
+			forward = forward.getNext();
+			backward = backward.getPrev();
+			steps++;
+		}
+		int tailSize = forward == tail ? steps + 1 : size - steps;
+
+		return cut(node, tailSize);
+	}
+
+	/**
+	 * Splits this list at an index and returns the elements from that index to
+	 * the end as a new list. This list keeps the elements before the index.
+	 * No element is copied.
+	 * @param index index of the first element of the returned list (0 to size)
+	 * @return a new list holding the elements from index on
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 */
+	public MyDLL<E> splitAt(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+		if (index == size) {
+			return new MyDLL<>(poolLimit);
+		}
+		return cut(node(index), size - index);
+	}
+
+	/**
+	 * Cuts the chain before a node and moves the node and its successors to a new list.
+	 * @param first first node to move
+	 * @param count number of nodes from first to the tail
+	 * @return the new list
+	 */
+	private MyDLL<E> cut(MyDLLNode<E> first, int count) {
+		MyDLL<E> rest = new MyDLL<>(poolLimit);
+		rest.head = first;
+		rest.tail = tail;
+		rest.size = count;
+		rest.handedOut = handedOut;
+
+		tail = first.getPrev();
+		if (tail == null) {
+			head = null;
+		} else {
+			tail.setNext(null);
+		}
+		first.setPrev(null);
+		size -= count;
+		finger = null;
+		modCount++;
+		return rest;
+	}
+
     /**
      * Returns true if the list has no elements.
      */
@@ -390,35 +726,152 @@ public class MyDLL<E> implements Iterator<E>, ListADT<E> {
 
     /**
      * Returns an iterator over the elements in this list.
-     * The iterator uses the internal cursor.
+     * Each call returns a new, independent iterator, so nested and concurrent
+     * read-only scans do not disturb each other.
+     * @return an iterator starting at the head
      */
 	@Override
 	public Iterator<E> iterator() {
-		cursor = head; 
-		return this; 
+		return new DLLIterator(head, 0);
 	}
 
-    /**
-     * Returns true if there is another element when iterating.
-     */
-	@Override
-	public boolean hasNext() {
-		return cursor != null;
+	/**
+	 * Returns a bidirectional iterator starting at the head.
+	 * Its add and remove work at the cursor in O(1).
+	 * @return a list iterator
+	 */
+	public ListIterator<E> listIterator() {
+		return new DLLIterator(head, 0);
 	}
-	
-    /**
-     * Returns the next element in the iteration.
-     * @return next element
-     * @throws NoSuchElementException if there are no more elements
-     */
-	@Override
-	public E next() throws NoSuchElementException {
 
-		if (!hasNext()) {
-			throw new NoSuchElementException("No more elements");
+	/**
+	 * Returns a bidirectional iterator starting before the given index.
+	 * @param index index of the element the first call to next() returns (0 to size)
+	 * @return a list iterator
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 */
+	public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+		return new DLLIterator(index == size ? null : node(index), index);
+	}
+
+	/**
+	 * Independent iterator over the nodes of this list.
+	 * It fails fast with a ConcurrentModificationException if the list's
+	 * structure changes other than through this iterator.
+	 */
+	private class DLLIterator implements ListIterator<E> {
+		private MyDLLNode<E> nextNode; // Node next() returns, null at the end
+		private int nextIndex;
+		private MyDLLNode<E> lastReturned; // Node set() and remove() act on, null if there is none
+		private int expectedModCount = modCount;
+
+		/**
+		 * Creates an iterator with its cursor before a node.
+		 * @param nextNode node next() returns first, null at the end
+		 * @param nextIndex index of that node
+		 */
+		DLLIterator(MyDLLNode<E> nextNode, int nextIndex) {
+			this.nextNode = nextNode;
+			this.nextIndex = nextIndex;
+		}
+
+		/**
+		 * Throws if the list changed structure other than through this iterator.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public E next() throws NoSuchElementException, ConcurrentModificationException {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements");
+			}
+			lastReturned = nextNode;
+			nextNode = nextNode.getNext();
+			nextIndex++;
+			return lastReturned.getElement();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() throws NoSuchElementException, ConcurrentModificationException {
+			checkForComodification();
+			if (!hasPrevious()) {
+				throw new NoSuchElementException("No previous element");
+			}
+			nextNode = nextNode == null ? tail : nextNode.getPrev();
+			lastReturned = nextNode;
+			nextIndex--;
+			return lastReturned.getElement();
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() throws IllegalStateException, ConcurrentModificationException {
+			checkForComodification();
+			if (lastReturned == null) {
+				throw new IllegalStateException("Nothing to remove");
+			}
+
+			if (nextNode == lastReturned) { // Came from previous(), cursor keeps its index
+				nextNode = lastReturned.getNext();
+			} else {
+				nextIndex--;
+			}
+			unlink(lastReturned);
+			recycle(lastReturned);
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void set(E toChange) throws NullPointerException, IllegalStateException, ConcurrentModificationException {
+			checkForComodification();
+			if (toChange == null) {
+				throw new NullPointerException("Cannot store null element");
+			}
+			if (lastReturned == null) {
+				throw new IllegalStateException("Nothing to set");
+			}
+			lastReturned.setElement(toChange);
+		}
+
+		@Override
+		public void add(E toAdd) throws NullPointerException, ConcurrentModificationException {
+			checkForComodification();
+			if (toAdd == null) {
+				throw new NullPointerException("Cannot add null element");
+			}
+
+			linkBefore(newNode(toAdd), nextNode);
+			nextIndex++;
+			lastReturned = null;
+			expectedModCount = modCount;
 		}
-		E data = cursor.getElement();
-		cursor = cursor.getNext();
-		return data;
 	}
 }
@@ -2,6 +2,7 @@ package implementations;
 
 import exceptions.EmptyQueueException;
 import java.io.*;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import utilities.Iterator;
@@ -14,6 +15,11 @@ import utilities.QueueADT;
  */
 public class MyQueue<E> implements QueueADT<E>
 {
+	/**
+	 * Number of dequeued nodes the underlying list keeps for later enqueues,
+	 * so a queue under steady enqueue/dequeue churn does not allocate nodes.
+	 */
+	private static final int NODE_POOL_SIZE = 16;
 	/**
 	 * Linked list object used as its underlying data.
 	 */
@@ -27,7 +33,7 @@ public class MyQueue<E> implements QueueADT<E>
 	 * Constructor for class MyQueue
 	 */
 	public MyQueue(){
-		linkedList = new MyDLL<E>();
+		linkedList = new MyDLL<E>(NODE_POOL_SIZE);
 		this.capacity = -1;
 	}
 	
@@ -36,7 +42,7 @@ public class MyQueue<E> implements QueueADT<E>
 	 * @param size Integer that represents the maximum capacity of the Queue.
 	 */
 	public MyQueue(int size) {
-		linkedList = new MyDLL<E>();
+		linkedList = new MyDLL<E>(NODE_POOL_SIZE);
 		this.capacity = size;
 	}
 	
@@ -85,7 +91,7 @@ public class MyQueue<E> implements QueueADT<E>
 		if(linkedList.size() == 0) {
 			throw new EmptyQueueException("Cannot peek from an empty Queue!");
 		}
-		return linkedList.getHead().element;
+		return linkedList.get(0);
 	}
 	
 	/**
@@ -133,18 +139,8 @@ public class MyQueue<E> implements QueueADT<E>
 		{
 			throw new NullPointerException("Cannot search for null values!");
 		}
-		//Goes to the top of the Queue.
-		MyDLLNode<E> curr = linkedList.getHead();
-		//While the current node is not null.
-		while(curr != null) 
-		{
-			if(curr.element.equals(toFind)) 
-			{
-				return true;
-			}
-			curr = curr.next;
-		}
-		return false;
+		//Scan the list from the top of the Queue.
+		return linkedList.contains(toFind);
 	}
 
 	/**
@@ -157,17 +153,16 @@ public class MyQueue<E> implements QueueADT<E>
 	public int search( E toFind ) 
 	{
 		//Goes to the top
-		MyDLLNode<E> curr = linkedList.getHead();
+		Iterator<E> it = linkedList.iterator();
 		//Index starts at 1
 		int counter = 1;
 		//Traverse the list.
-		while(curr != null) 
+		while(it.hasNext()) 
 		{
-			if(curr.element.equals(toFind)) 
+			if(it.next().equals(toFind)) 
 			{
 				return counter;
 			}
-			curr = curr.next;
 			//For each iteration add 1 to counter.
 			counter++;
 		}
@@ -238,20 +233,8 @@ public class MyQueue<E> implements QueueADT<E>
 	 */
 	public Object[] toArray() 
 	{
-		//Creates a new Object array with the same size as the linkedList.
-		Object[] arr = new Object[linkedList.size()];
-
-		//Goes to the top.
-	    MyDLLNode<E> curr = linkedList.getHead();
-	    int i = 0;
-	    //Traverse through the Queue.
-	    while (curr != null) 
-	    {
-	    	//Append items into the correct index.
-	    	arr[i++] = curr.element;
-	    	curr = curr.next;
-	    }
-	    return arr;
+		//Copies the items from the top of the Queue, in order.
+	    return linkedList.toArray();
 	}
 
 	/**
@@ -300,13 +283,14 @@ public class MyQueue<E> implements QueueADT<E>
 	}
 	
 	/**
-	 * Custom iterator implementation for MyQueue class.
+	 * Custom iterator implementation for MyQueue class. It wraps the list's fail-fast iterator
+	 * instead of holding a node, since the list recycles the nodes that dequeue removes.
 	 */
 	private class QueueIterator implements Iterator<E> {
 		/**
-		 * Represents the head of the linked list.
+		 * Iterator of the underlying linked list, starting at the head.
 		 */
-	    private MyDLLNode<E> cursor = linkedList.getHead();
+	    private Iterator<E> cursor = linkedList.iterator();
 
 	    /**
 	     * Method used to check if there is a next item.
@@ -315,22 +299,21 @@ public class MyQueue<E> implements QueueADT<E>
 	     */
 	    @Override
 	    public boolean hasNext() {
-	    	return cursor != null;
+	    	return cursor.hasNext();
 	    }
 	    
 	    /**
 	     * Method used to traverse through the Queue.
+	     * @throws ConcurrentModificationException if the queue changed since the iterator was created.
 	     * @author Estefano Campana
 	     * @version 1.0
 	     */
 	    @Override
-	    public E next() throws NoSuchElementException {
+	    public E next() throws NoSuchElementException, ConcurrentModificationException {
 	        if (!hasNext())
 	            throw new NoSuchElementException("No more elements.");
 
-	        E value = cursor.element;
-	        cursor = cursor.next;
-	        return value;
+	        return cursor.next();
 	    }
 	}
 
@@ -0,0 +1,566 @@
+package implementations;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * List of fixed-size binary records stored outside the Java heap.
+ * Records are packed back to back in direct <code>ByteBuffer</code> chunks, so the garbage collector
+ * sees one small buffer object per chunk instead of one object per record. Tens of millions of records
+ * therefore add almost nothing to GC work. Chunks also keep each buffer well under the 2 GB
+ * limit of a single <code>ByteBuffer</code>.
+ *
+ * Records are read and written through a <code>Record</code> flyweight. The flyweight is a reusable cursor
+ * that reads fields at byte offsets inside one record, so a scan allocates nothing per element:
+ *
+ * <pre>
+ * OffHeapRecordList.Record r = list.newRecord();
+ * for (int i = 0; i &lt; list.size(); i++) {
+ *     list.get(i, r);
+ *     int line = r.getInt(4);
+ * }
+ * </pre>
+ *
+ * Call <code>free()</code> to release the memory straight away rather than waiting for the buffers to be
+ * collected. The list cannot be used after it is freed.
+ * This list is not thread-safe.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class OffHeapRecordList implements AutoCloseable
+{
+	private static final int TARGET_CHUNK_BYTES = 1 << 20; // Aim for 1 MiB per direct buffer
+	private static final ByteBuffer[] NO_CHUNKS = new ByteBuffer[0];
+
+	private final int recordSize; // Bytes per record
+	private final int chunkShift; // log2 of records per chunk
+	private final int chunkMask;
+	private ByteBuffer[] chunks = NO_CHUNKS; // Null once freed
+	private int chunkCount;
+	private int size;
+
+	/**
+	 * Constructor method sizing chunks to about 1 MiB.
+	 *
+	 * Precondition: The record size is positive.
+	 *
+	 * Postcondition: An empty list of records of the given size is created. No memory is reserved yet.
+	 *
+	 * @param recordSize The number of bytes in each record.
+	 * @return A new OffHeapRecordList.
+	 * @throws IllegalArgumentException if the record size is not positive.
+	 * @author TerrellAW
+	 */
+	public OffHeapRecordList( int recordSize ) throws IllegalArgumentException {
+		this(recordSize, recordsPerChunk(recordSize));
+	}
+
+	/**
+	 * Constructor method with an explicit chunk size.
+	 *
+	 * Precondition: The record size is positive and the records per chunk is a positive power of two.
+	 *
+	 * Postcondition: An empty list is created. Each chunk will hold the given number of records.
+	 *
+	 * @param recordSize The number of bytes in each record.
+	 * @param recordsPerChunk The number of records in each direct buffer.
+	 * @return A new OffHeapRecordList.
+	 * @throws IllegalArgumentException if either argument is invalid or a chunk would exceed 2 GB.
+	 * @author TerrellAW
+	 */
+	public OffHeapRecordList( int recordSize, int recordsPerChunk ) throws IllegalArgumentException {
+		if (recordSize <= 0) {
+			throw new IllegalArgumentException("Record size must be positive: " + recordSize);
+		}
+		if (recordsPerChunk <= 0 || Integer.bitCount(recordsPerChunk) != 1) {
+			throw new IllegalArgumentException("Records per chunk must be a power of two: " + recordsPerChunk);
+		}
+		if ((long) recordSize * recordsPerChunk > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Chunk of " + recordsPerChunk + " records of " + recordSize + " bytes is too large");
+		}
+
+		this.recordSize = recordSize;
+		this.chunkShift = Integer.numberOfTrailingZeros(recordsPerChunk);
+		this.chunkMask = recordsPerChunk - 1;
+	}
+
+	/**
+	 * Returns the largest power of two number of records that fits the target chunk size.
+	 *
+	 * @param recordSize The number of bytes in each record.
+	 * @return The records per chunk, at least one.
+	 * @author TerrellAW
+	 */
+	private static int recordsPerChunk( int recordSize ) {
+		return recordSize <= 0 ? 1 : Math.max(1, Integer.highestOneBit(TARGET_CHUNK_BYTES / recordSize));
+	}
+
+	/**
+	 * Returns the number of bytes in each record.
+	 *
+	 * @return The record size.
+	 * @author TerrellAW
+	 */
+	public int recordSize() {
+		return recordSize;
+	}
+
+	/**
+	 * Returns the number of records in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no records, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of off-heap bytes currently reserved by the list.
+	 *
+	 * @return Reserved bytes, or zero once freed.
+	 * @author TerrellAW
+	 */
+	public long reservedBytes() {
+		return (long) chunkCount * ((long) recordSize << chunkShift);
+	}
+
+	/**
+	 * Returns a new flyweight that is not yet positioned on any record.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A flyweight for this list is returned.
+	 *
+	 * @return A new record flyweight.
+	 * @author TerrellAW
+	 */
+	public Record newRecord() {
+		return new Record();
+	}
+
+	/**
+	 * Appends a zero-filled record and positions a flyweight on it so its fields can be written.
+	 *
+	 * Precondition: The list has not been freed and the flyweight belongs to this list.
+	 *
+	 * Postcondition: The size increases by one and the flyweight points at the new last record.
+	 *
+	 * @param flyweight The flyweight to position on the new record.
+	 * @return The flyweight, for chaining field writes.
+	 * @throws IllegalStateException if the list has been freed or is full.
+	 * @throws IllegalArgumentException if the flyweight belongs to another list.
+	 * @author TerrellAW
+	 */
+	public Record add( Record flyweight ) throws IllegalStateException, IllegalArgumentException {
+		checkOwner(flyweight);
+		if (size == Integer.MAX_VALUE) {
+			throw new IllegalStateException("List is full");
+		}
+
+		int chunk = size >>> chunkShift;
+		if (chunk == chunkCount) { // New buffers from allocateDirect are already zeroed
+			if (chunkCount == chunks.length) {
+				chunks = Arrays.copyOf(chunks, Math.max(4, chunkCount + (chunkCount >> 1)));
+			}
+			chunks[chunkCount++] = ByteBuffer.allocateDirect(recordSize << chunkShift).order(ByteOrder.nativeOrder());
+			flyweight.moveTo(chunks[chunk], 0);
+		} else { // Chunk kept by clear(), may hold an old record
+			flyweight.moveTo(chunks[chunk], (size & chunkMask) * recordSize);
+			flyweight.zero();
+		}
+		size++;
+		return flyweight;
+	}
+
+	/**
+	 * Positions a flyweight on the record at the specified index.
+	 * Field writes through the flyweight change the stored record.
+	 *
+	 * Precondition: The list has not been freed, the flyweight belongs to this list and the index is within bounds.
+	 *
+	 * Postcondition: The flyweight points at the record at the index.
+	 *
+	 * @param index The position of the record.
+	 * @param flyweight The flyweight to position.
+	 * @return The flyweight.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @throws IllegalStateException if the list has been freed.
+	 * @throws IllegalArgumentException if the flyweight belongs to another list.
+	 * @author TerrellAW
+	 */
+	public Record get( int index, Record flyweight ) throws IndexOutOfBoundsException, IllegalStateException, IllegalArgumentException {
+		checkOwner(flyweight);
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		flyweight.moveTo(chunks[index >>> chunkShift], (index & chunkMask) * recordSize);
+		return flyweight;
+	}
+
+	/**
+	 * Replaces the record at the specified index with a copy of another record of the same size.
+	 *
+	 * Precondition: The list has not been freed, the source is positioned on a record of the same size and the index is within bounds.
+	 *
+	 * Postcondition: The record at the index holds the same bytes as the source.
+	 *
+	 * @param index The position of the record to replace.
+	 * @param source A positioned flyweight, from this list or another one.
+	 * @throws NullPointerException if the source is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @throws IllegalStateException if either list has been freed or the source is not positioned.
+	 * @throws IllegalArgumentException if the source has a different record size.
+	 * @author TerrellAW
+	 */
+	public void set( int index, Record source ) throws NullPointerException, IndexOutOfBoundsException, IllegalStateException, IllegalArgumentException {
+		if (source == null) {
+			throw new NullPointerException("Source record cannot be null");
+		}
+		if (source.recordSize() != recordSize) {
+			throw new IllegalArgumentException("Record size " + source.recordSize() + " does not match " + recordSize);
+		}
+		checkOpen();
+		source.checkPositioned();
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		ByteBuffer target = chunks[index >>> chunkShift];
+		int targetOffset = (index & chunkMask) * recordSize;
+		for (int i = 0; i < recordSize; i++) {
+			target.put(targetOffset + i, source.buffer.get(source.offset + i));
+		}
+	}
+
+	/**
+	 * Removes the last record.
+	 *
+	 * Precondition: The list has not been freed and is not empty.
+	 *
+	 * Postcondition: The size decreases by one. The memory is kept for later appends.
+	 *
+	 * @throws IllegalStateException if the list has been freed or is empty.
+	 * @author TerrellAW
+	 */
+	public void removeLast() throws IllegalStateException {
+		checkOpen();
+		if (size == 0) {
+			throw new IllegalStateException("List is empty");
+		}
+		size--;
+	}
+
+	/**
+	 * Removes all records. The chunks are kept so the list can be refilled without new allocation.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Releases all off-heap memory straight away.
+	 * Flyweights of this list throw an <code>IllegalStateException</code> afterwards instead of reading freed memory.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The memory is released, the list is empty and cannot be used again. Calling this twice has no effect.
+	 *
+	 * @author TerrellAW
+	 */
+	public void free() {
+		if (chunks == null) {
+			return;
+		}
+
+		ByteBuffer[] released = chunks;
+		int count = chunkCount;
+		chunks = null; // Flyweights check this before every access
+		chunkCount = 0;
+		size = 0;
+		for (int i = 0; i < count; i++) {
+			BufferCleaner.release(released[i]);
+		}
+	}
+
+	/**
+	 * Same as <code>free()</code>, so the list can be used in a try-with-resources statement.
+	 *
+	 * @author TerrellAW
+	 */
+	@Override
+	public void close() {
+		free();
+	}
+
+	/**
+	 * Throws if the list has been freed.
+	 *
+	 * @throws IllegalStateException if the list has been freed.
+	 * @author TerrellAW
+	 */
+	private void checkOpen() throws IllegalStateException {
+		if (chunks == null) {
+			throw new IllegalStateException("List has been freed");
+		}
+	}
+
+	/**
+	 * Throws if the list has been freed or the flyweight belongs to another list.
+	 *
+	 * @param flyweight The flyweight to check.
+	 * @throws NullPointerException if the flyweight is null.
+	 * @throws IllegalStateException if the list has been freed.
+	 * @throws IllegalArgumentException if the flyweight belongs to another list.
+	 * @author TerrellAW
+	 */
+	private void checkOwner( Record flyweight ) throws NullPointerException, IllegalStateException, IllegalArgumentException {
+		if (flyweight == null) {
+			throw new NullPointerException("Record cannot be null");
+		}
+		checkOpen();
+		if (flyweight.owner() != this) {
+			throw new IllegalArgumentException("Record belongs to another list");
+		}
+	}
+
+	/**
+	 * Reusable accessor for one record of an <code>OffHeapRecordList</code>.
+	 * Fields are addressed by byte offset within the record, and the caller decides the layout.
+	 * For example, a (tag id, line, offset) record of 12 bytes has its three ints at offsets 0, 4 and 8.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	public final class Record {
+		private ByteBuffer buffer; // Chunk holding the current record, null until positioned
+		private int offset; // Byte offset of the current record within the chunk
+
+		/**
+		 * Creates an unpositioned flyweight.
+		 */
+		private Record() {
+		}
+
+		/**
+		 * Returns the list this flyweight reads from.
+		 *
+		 * @return The owning list.
+		 * @author TerrellAW
+		 */
+		private OffHeapRecordList owner() {
+			return OffHeapRecordList.this;
+		}
+
+		/**
+		 * Returns the number of bytes in the record.
+		 *
+		 * @return The record size.
+		 * @author TerrellAW
+		 */
+		public int recordSize() {
+			return recordSize;
+		}
+
+		/**
+		 * Points the flyweight at a record.
+		 *
+		 * @param chunk The chunk holding the record.
+		 * @param recordOffset Byte offset of the record in the chunk.
+		 * @author TerrellAW
+		 */
+		private void moveTo( ByteBuffer chunk, int recordOffset ) {
+			buffer = chunk;
+			offset = recordOffset;
+		}
+
+		/**
+		 * Fills the current record with zeros.
+		 *
+		 * @author TerrellAW
+		 */
+		private void zero() {
+			for (int i = 0; i < recordSize; i++) {
+				buffer.put(offset + i, (byte) 0);
+			}
+		}
+
+		/**
+		 * Throws if the list was freed or the flyweight has not been positioned.
+		 *
+		 * @throws IllegalStateException if the flyweight cannot be used.
+		 * @author TerrellAW
+		 */
+		private void checkPositioned() throws IllegalStateException {
+			checkOpen();
+			if (buffer == null) {
+				throw new IllegalStateException("Record is not positioned on an element");
+			}
+		}
+
+		/**
+		 * Returns the buffer index of a field after checking it fits in the record.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @param width Width of the field in bytes.
+		 * @return The absolute index of the field in the chunk.
+		 * @throws IndexOutOfBoundsException if the field does not fit in the record.
+		 * @throws IllegalStateException if the flyweight cannot be used.
+		 * @author TerrellAW
+		 */
+		private int at( int field, int width ) throws IndexOutOfBoundsException, IllegalStateException {
+			checkPositioned();
+			if (field < 0 || field > recordSize - width) {
+				throw new IndexOutOfBoundsException("Field: " + field + ", Width: " + width + ", Record size: " + recordSize);
+			}
+			return offset + field;
+		}
+
+		/**
+		 * Reads a byte field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @return The field value.
+		 * @author TerrellAW
+		 */
+		public byte getByte( int field ) {
+			return buffer.get(at(field, Byte.BYTES));
+		}
+
+		/**
+		 * Writes a byte field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @param value The new value.
+		 * @return This flyweight, for chaining.
+		 * @author TerrellAW
+		 */
+		public Record putByte( int field, byte value ) {
+			buffer.put(at(field, Byte.BYTES), value);
+			return this;
+		}
+
+		/**
+		 * Reads a short field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @return The field value.
+		 * @author TerrellAW
+		 */
+		public short getShort( int field ) {
+			return buffer.getShort(at(field, Short.BYTES));
+		}
+
+		/**
+		 * Writes a short field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @param value The new value.
+		 * @return This flyweight, for chaining.
+		 * @author TerrellAW
+		 */
+		public Record putShort( int field, short value ) {
+			buffer.putShort(at(field, Short.BYTES), value);
+			return this;
+		}
+
+		/**
+		 * Reads an int field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @return The field value.
+		 * @author TerrellAW
+		 */
+		public int getInt( int field ) {
+			return buffer.getInt(at(field, Integer.BYTES));
+		}
+
+		/**
+		 * Writes an int field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @param value The new value.
+		 * @return This flyweight, for chaining.
+		 * @author TerrellAW
+		 */
+		public Record putInt( int field, int value ) {
+			buffer.putInt(at(field, Integer.BYTES), value);
+			return this;
+		}
+
+		/**
+		 * Reads a long field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @return The field value.
+		 * @author TerrellAW
+		 */
+		public long getLong( int field ) {
+			return buffer.getLong(at(field, Long.BYTES));
+		}
+
+		/**
+		 * Writes a long field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @param value The new value.
+		 * @return This flyweight, for chaining.
+		 * @author TerrellAW
+		 */
+		public Record putLong( int field, long value ) {
+			buffer.putLong(at(field, Long.BYTES), value);
+			return this;
+		}
+
+		/**
+		 * Reads a double field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @return The field value.
+		 * @author TerrellAW
+		 */
+		public double getDouble( int field ) {
+			return buffer.getDouble(at(field, Double.BYTES));
+		}
+
+		/**
+		 * Writes a double field.
+		 *
+		 * @param field Byte offset of the field in the record.
+		 * @param value The new value.
+		 * @return This flyweight, for chaining.
+		 * @author TerrellAW
+		 */
+		public Record putDouble( int field, double value ) {
+			buffer.putDouble(at(field, Double.BYTES), value);
+			return this;
+		}
+	}
+}
@@ -0,0 +1,641 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Immutable vector that shares structure between versions.
+ * Elements live in a 32-way trie of small arrays plus a tail array holding the last (up to) 32 elements.
+ * <code>plus</code> (append) and <code>with</code> (replace at index) return a new vector that copies only the
+ * O(log32 n) nodes on the path to the change and shares the rest with the original, so keeping an old
+ * version around as a checkpoint costs O(1). Appends usually touch only the tail.
+ *
+ * The read methods mirror <code>ListADT</code>. The mutating <code>ListADT</code> methods are not offered,
+ * because every version is immutable.
+ *
+ * For bulk construction use a <code>Builder</code>. It edits the nodes it created in place instead of
+ * copying a path on every append, and <code>build()</code> hands the result over in O(1).
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this vector.
+ */
+public final class PersistentVector<E>
+{
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS; // 32 children per node
+	private static final int MASK = WIDTH - 1;
+
+	private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+	private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+	private final int size;
+	private final int shift; // Bits of the index consumed by the root level
+	private final Node root;
+	private final Object[] tail;
+
+	/**
+	 * Trie node. Nodes are never modified once a vector can see them; a builder may only
+	 * modify nodes that carry its current edit token.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private static final class Node {
+		final Object edit; // Builder token that may modify this node in place, null for shared nodes
+		final Object[] array;
+
+		/**
+		 * Creates a node.
+		 *
+		 * @param edit The owning builder token, or null.
+		 * @param array The children or elements of the node.
+		 */
+		Node( Object edit, Object[] array ) {
+			this.edit = edit;
+			this.array = array;
+		}
+	}
+
+	/**
+	 * Creates a vector from its parts.
+	 *
+	 * @param size Number of elements.
+	 * @param shift Bits of the index consumed by the root level.
+	 * @param root Root of the trie.
+	 * @param tail The last elements, not yet pushed into the trie.
+	 */
+	private PersistentVector( int size, int shift, Node root, Object[] tail ) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	/**
+	 * Returns the empty vector.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A vector with no elements is returned.
+	 *
+	 * @return The empty vector.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentVector<E> empty() {
+		return (PersistentVector<E>) EMPTY;
+	}
+
+	/**
+	 * Returns a vector holding the elements of a list, built with a transient builder.
+	 *
+	 * Precondition: The list is not null.
+	 *
+	 * Postcondition: A vector with the same elements in the same order is returned.
+	 *
+	 * @param source The list to copy.
+	 * @return A new vector.
+	 * @throws NullPointerException if the list is null.
+	 * @author TerrellAW
+	 */
+	public static <E> PersistentVector<E> copyOf( ListADT<? extends E> source ) throws NullPointerException {
+		if (source == null) {
+			throw new NullPointerException("Cannot copy a null list");
+		}
+
+		Builder<E> builder = new Builder<>(PersistentVector.<E>empty());
+		Iterator<? extends E> it = source.iterator();
+		while (it.hasNext()) {
+			builder.add(it.next());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Returns a builder that starts from the elements of this vector.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A builder is returned; this vector is unchanged by anything done to the builder.
+	 *
+	 * @return A new builder.
+	 * @author TerrellAW
+	 */
+	public Builder<E> toBuilder() {
+		return new Builder<>(this);
+	}
+
+	/**
+	 * Returns the number of elements in the vector.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The size is returned.
+	 *
+	 * @return The number of elements.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the vector is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the vector has no elements, otherwise false.
+	 *
+	 * @return True if the vector is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in O(log32 n).
+	 *
+	 * Precondition: The index is within the bounds of this vector.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this vector.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		@SuppressWarnings("unchecked")
+		E element = (E) leafFor(index)[index & MASK];
+		return element;
+	}
+
+	/**
+	 * Returns a new vector with an element appended, sharing every full leaf with this one.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: This vector is unchanged; the returned vector has the element at the end.
+	 *
+	 * @param toAdd The element to append.
+	 * @return A new vector one element longer.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public PersistentVector<E> plus( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		if (size - tailOffset(size) < WIDTH) { // Room in the tail
+			Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+			newTail[tail.length] = toAdd;
+			return new PersistentVector<>(size + 1, shift, root, newTail);
+		}
+
+		// Tail is full: push it into the trie as a leaf and start a new tail
+		Node leaf = new Node(null, tail);
+		int newShift = shift;
+		Node newRoot;
+
+		if ((size >>> BITS) > (1 << shift)) { // Trie is full at this height, add a level
+			Object[] children = new Object[WIDTH];
+			children[0] = root;
+			children[1] = newPath(null, shift, leaf);
+			newRoot = new Node(null, children);
+			newShift += BITS;
+		} else {
+			newRoot = pushTail(null, size, shift, root, leaf);
+		}
+		return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { toAdd });
+	}
+
+	/**
+	 * Returns a new vector with the element at an index replaced, copying only the path to it.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: This vector is unchanged; the returned vector holds the new value at the index.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element.
+	 * @return A new vector with the replacement.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this vector.
+	 * @author TerrellAW
+	 */
+	public PersistentVector<E> with( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		if (index >= tailOffset(size)) {
+			Object[] newTail = tail.clone();
+			newTail[index & MASK] = toChange;
+			return new PersistentVector<>(size, shift, root, newTail);
+		}
+		return new PersistentVector<>(size, shift, assoc(null, shift, root, index, toChange), tail);
+	}
+
+	/**
+	 * Checks if the vector contains a specific element.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		for (int start = 0; start < size; start += WIDTH) {
+			Object[] leaf = leafFor(start);
+			int count = Math.min(WIDTH, size - start);
+			for (int i = 0; i < count; i++) {
+				if (toFind.equals(leaf[i])) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Copies the vector into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the vector.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		copyInto(toHold);
+		return toHold;
+	}
+
+	/**
+	 * Returns a new array containing the elements of the vector.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the vector.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		copyInto(result);
+		return result;
+	}
+
+	/**
+	 * Returns an iterator that walks the vector one leaf at a time.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the vector.
+	 *
+	 * @return An iterator for the vector.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new VectorIterator();
+	}
+
+	/**
+	 * Copies every element, one leaf at a time, to the start of an array.
+	 *
+	 * @param destination The array to copy into, at least size long.
+	 * @author TerrellAW
+	 */
+	private void copyInto( Object[] destination ) {
+		for (int start = 0; start < size; start += WIDTH) {
+			System.arraycopy(leafFor(start), 0, destination, start, Math.min(WIDTH, size - start));
+		}
+	}
+
+	/**
+	 * Returns the index of the first element stored in the tail.
+	 *
+	 * @param count The number of elements.
+	 * @return The tail offset.
+	 * @author TerrellAW
+	 */
+	private static int tailOffset( int count ) {
+		return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+	}
+
+	/**
+	 * Returns the leaf array holding an index.
+	 *
+	 * @param index A valid index.
+	 * @return The tail or the trie leaf holding the index.
+	 * @author TerrellAW
+	 */
+	private Object[] leafFor( int index ) {
+		return leafFor(index, size, shift, root, tail);
+	}
+
+	/**
+	 * Returns the leaf array holding an index in a trie.
+	 *
+	 * @param index A valid index.
+	 * @param count The number of elements.
+	 * @param levelShift Shift of the root level.
+	 * @param node The root.
+	 * @param tailArray The tail.
+	 * @return The tail or the trie leaf holding the index.
+	 * @author TerrellAW
+	 */
+	private static Object[] leafFor( int index, int count, int levelShift, Node node, Object[] tailArray ) {
+		if (index >= tailOffset(count)) {
+			return tailArray;
+		}
+		for (int level = levelShift; level > 0; level -= BITS) {
+			node = (Node) node.array[(index >>> level) & MASK];
+		}
+		return node.array;
+	}
+
+	/**
+	 * Returns a node for the given builder, reusing it when the builder already owns it.
+	 *
+	 * @param edit The builder token, or null for persistent operations.
+	 * @param node The node to change.
+	 * @return A node the caller may modify.
+	 * @author TerrellAW
+	 */
+	private static Node editable( Object edit, Node node ) {
+		if (edit != null && node.edit == edit) {
+			return node;
+		}
+		return new Node(edit, node.array.clone());
+	}
+
+	/**
+	 * Builds a chain of single-child nodes from a level down to a leaf.
+	 *
+	 * @param edit The builder token, or null.
+	 * @param level The level of the top node.
+	 * @param leaf The leaf at the bottom.
+	 * @return The top of the chain.
+	 * @author TerrellAW
+	 */
+	private static Node newPath( Object edit, int level, Node leaf ) {
+		if (level == 0) {
+			return leaf;
+		}
+
+		Object[] children = new Object[WIDTH];
+		children[0] = newPath(edit, level - BITS, leaf);
+		return new Node(edit, children);
+	}
+
+	/**
+	 * Places a full tail leaf into the trie at the position after the last leaf.
+	 *
+	 * @param edit The builder token, or null.
+	 * @param count The number of elements, including those in the leaf.
+	 * @param level The level of the parent.
+	 * @param parent The node to descend from.
+	 * @param leaf The leaf to insert.
+	 * @return The replacement for the parent.
+	 * @author TerrellAW
+	 */
+	private static Node pushTail( Object edit, int count, int level, Node parent, Node leaf ) {
+		int childIndex = ((count - 1) >>> level) & MASK;
+		Node result = editable(edit, parent);
+		Node toInsert;
+
+		if (level == BITS) {
+			toInsert = leaf;
+		} else {
+			Node child = (Node) parent.array[childIndex];
+			toInsert = child != null ? pushTail(edit, count, level - BITS, child, leaf) : newPath(edit, level - BITS, leaf);
+		}
+		result.array[childIndex] = toInsert;
+		return result;
+	}
+
+	/**
+	 * Replaces an element in the trie, copying the nodes on its path unless the builder owns them.
+	 *
+	 * @param edit The builder token, or null.
+	 * @param level The level of the node.
+	 * @param node The node to descend from.
+	 * @param index The index to replace.
+	 * @param value The new element.
+	 * @return The replacement for the node.
+	 * @author TerrellAW
+	 */
+	private static Node assoc( Object edit, int level, Node node, int index, Object value ) {
+		Node result = editable(edit, node);
+
+		if (level == 0) {
+			result.array[index & MASK] = value;
+		} else {
+			int childIndex = (index >>> level) & MASK;
+			result.array[childIndex] = assoc(edit, level - BITS, (Node) node.array[childIndex], index, value);
+		}
+		return result;
+	}
+
+	/**
+	 * Transient builder for a <code>PersistentVector</code>.
+	 * Appends and replacements modify the builder's own nodes in place, so building n elements
+	 * allocates little more than the leaves themselves. <code>build()</code> is O(1) and the builder
+	 * stays usable: the built vector's nodes are handed over, and later builder edits copy them again.
+	 *
+	 * A builder is not thread-safe.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 * @param <E> The type of elements held in the vector.
+	 */
+	public static final class Builder<E> {
+		private Object edit = new Object(); // Nodes carrying this token belong to the builder
+		private int size;
+		private int shift;
+		private Node root;
+		private Object[] tail; // Always WIDTH long while building
+
+		/**
+		 * Creates a builder starting from a vector.
+		 *
+		 * @param start The vector whose elements the builder starts with.
+		 */
+		private Builder( PersistentVector<E> start ) {
+			this.size = start.size;
+			this.shift = start.shift;
+			this.root = start.root;
+			this.tail = Arrays.copyOf(start.tail, WIDTH);
+		}
+
+		/**
+		 * Returns the number of elements added so far.
+		 *
+		 * @return The number of elements.
+		 * @author TerrellAW
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Appends an element.
+		 *
+		 * Precondition: Element to add is not null.
+		 *
+		 * Postcondition: The element is at the end of the builder.
+		 *
+		 * @param toAdd The element to append.
+		 * @return This builder.
+		 * @throws NullPointerException if the element to add is null.
+		 * @author TerrellAW
+		 */
+		public Builder<E> add( E toAdd ) throws NullPointerException {
+			if (toAdd == null) {
+				throw new NullPointerException("Element to add cannot be null");
+			}
+
+			int inTail = size - tailOffset(size);
+			if (inTail < WIDTH) {
+				tail[inTail] = toAdd;
+				size++;
+				return this;
+			}
+
+			Node leaf = new Node(edit, tail);
+			tail = new Object[WIDTH];
+			tail[0] = toAdd;
+
+			if ((size >>> BITS) > (1 << shift)) {
+				Object[] children = new Object[WIDTH];
+				children[0] = root;
+				children[1] = newPath(edit, shift, leaf);
+				root = new Node(edit, children);
+				shift += BITS;
+			} else {
+				root = pushTail(edit, size, shift, root, leaf);
+			}
+			size++;
+			return this;
+		}
+
+		/**
+		 * Replaces the element at an index.
+		 *
+		 * Precondition: The new value is not null and the index is within bounds.
+		 *
+		 * Postcondition: The builder holds the new value at the index.
+		 *
+		 * @param index The position of the element to replace.
+		 * @param toChange The new element.
+		 * @return This builder.
+		 * @throws NullPointerException if the new value is null.
+		 * @throws IndexOutOfBoundsException if the index is beyond the size of the builder.
+		 * @author TerrellAW
+		 */
+		public Builder<E> set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+			if (toChange == null) {
+				throw new NullPointerException("New value cannot be null");
+			} else if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+			}
+
+			if (index >= tailOffset(size)) {
+				tail[index & MASK] = toChange;
+			} else {
+				root = assoc(edit, shift, root, index, toChange);
+			}
+			return this;
+		}
+
+		/**
+		 * Returns a vector holding the builder's elements in O(1).
+		 *
+		 * Precondition: None.
+		 *
+		 * Postcondition: The vector is returned; the builder no longer owns any of its nodes.
+		 *
+		 * @return The built vector.
+		 * @author TerrellAW
+		 */
+		public PersistentVector<E> build() {
+			edit = new Object(); // Nodes made so far now belong to the vector and must be copied before editing
+			Object[] vectorTail = Arrays.copyOf(tail, size - tailOffset(size));
+			return new PersistentVector<>(size, shift, root, vectorTail);
+		}
+	}
+
+	/**
+	 * Private subclass for iterating through <code>PersistentVector</code> one leaf at a time.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class VectorIterator implements Iterator<E> {
+		private int cursor = 0;
+		private Object[] leaf = size > 0 ? leafFor(0) : null; // Leaf holding the element at the cursor
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		/**
+		 * Returns the next element in the iteration, looking up the next leaf when the cursor crosses into it.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException {
+			if (cursor >= size) {
+				throw new NoSuchElementException("No more elements");
+			}
+			if ((cursor & MASK) == 0 && cursor > 0) { // Crossed into the next leaf
+				leaf = leafFor(cursor);
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E) leaf[cursor++ & MASK];
+			return element;
+		}
+	}
+}
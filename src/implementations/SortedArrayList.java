@@ -0,0 +1,463 @@
+package implementations;
+
+import java.util.Comparator;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Array list that keeps its elements in sorted order.
+ * Elements are stored in an underlying <code>MyArrayList</code>, and lookups use binary search,
+ * so <code>contains</code>, <code>indexOf</code> and <code>remove(E)</code> are O(log n) comparisons.
+ * Equal elements are kept in the order they were added.
+ *
+ * Two elements are considered equal when the comparator returns zero for them.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class SortedArrayList<E> implements ListADT<E>
+{
+	private MyArrayList<E> list;
+	private Comparator<? super E> comparator;
+
+	/**
+	 * Constructor method that orders elements by their natural ordering.
+	 *
+	 * Precondition: Elements added to the list implement <code>Comparable</code>.
+	 *
+	 * Postcondition: Empty sorted list is initialized.
+	 *
+	 * @return A new SortedArrayList object.
+	 * @author TerrellAW
+	 */
+	public SortedArrayList() {
+		this(null);
+	}
+
+	/**
+	 * Constructor method that orders elements with a comparator.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty sorted list is initialized.
+	 *
+	 * @param comparator The comparator that decides the order, or null to use natural ordering.
+	 * @return A new SortedArrayList object.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public SortedArrayList( Comparator<? super E> comparator ) {
+		this.list = new MyArrayList<>();
+		this.comparator = comparator != null ? comparator : (a, b) -> ((Comparable<? super E>)a).compareTo(b);
+	}
+
+	/**
+	 * Returns the comparator that orders this list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The comparator is returned.
+	 *
+	 * @return The comparator used to keep the list sorted.
+	 * @author TerrellAW
+	 */
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return list.size();
+	}
+
+	/**
+	 * Clears all elements from the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		list.clear();
+	}
+
+	/**
+	 * Adds a new element at the specified index. Only accepted when the element belongs at that
+	 * index, since the list has to stay sorted.
+	 *
+	 * Precondition: Element to add is not null, index is within bounds and the element sorts between its neighbours.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @throws IllegalArgumentException if adding the element at the index would break the sort order.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index < 0 || index > size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		if (!fitsAt(index, toAdd, index)) {
+			throw new IllegalArgumentException("Element does not belong at index " + index);
+		}
+
+		return list.add(index, toAdd);
+	}
+
+	/**
+	 * Adds a new element at its sorted position, after any elements equal to it.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added in order and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		return list.add(upperBound(toAdd), toAdd);
+	}
+
+	/**
+	 * Adds all elements from another collection to this list, each at its sorted position.
+	 * The batch is appended, sorted on its own and merged in once, so adding m elements
+	 * costs O(m log m + n) rather than a shifting insert per element.
+	 *
+	 * Precondition: The collection to add is not null and holds no null elements.
+	 *
+	 * Postcondition: All elements from the specified collection are added in order, after any equal elements already in the list.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null or holds a null element.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] elements = toAdd.toArray(); // Snapshot so adding a list to itself terminates
+		for (Object element : elements) {
+			if (element == null) {
+				throw new NullPointerException("Element to add cannot be null");
+			}
+		}
+		list.mergeSorted(elements, comparator);
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		return list.get(index);
+	}
+
+	/**
+	 * Removes the element at the specified index from the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		return list.remove(index);
+	}
+
+	/**
+	 * Removes the first element equal to the specified element, found by binary search.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The element is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		int index = indexOf(toRemove);
+
+		if (index == -1) {
+			return null;
+		}
+		return list.remove(index);
+	}
+
+	/**
+	 * Replaces the element at the specified index. Only accepted when the new element belongs at
+	 * that index, since the list has to stay sorted.
+	 *
+	 * Precondition: The new value is not null, the index is within bounds and the value sorts between its neighbours.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @throws IllegalArgumentException if setting the element at the index would break the sort order.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size() + ")");
+		}
+		if (!fitsAt(index, toChange, index + 1)) {
+			throw new IllegalArgumentException("Element does not belong at index " + index);
+		}
+
+		return list.set(index, toChange);
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	/**
+	 * Checks if the list contains a specific element using binary search.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for in the list.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		return indexOf(toFind) != -1;
+	}
+
+	/**
+	 * Returns the index of the first element equal to the target using binary search.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index is returned if the element is found, otherwise negative one.
+	 *
+	 * @param target The element to search for.
+	 * @return Index of the first equal element if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( E target ) {
+		if (target == null) {
+			return -1;
+		}
+
+		int index = lowerBound(target);
+
+		if (index < list.size() && comparator.compare(list.get(index), target) == 0) {
+			return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the elements that sort between two bounds, from lo inclusive to hi exclusive.
+	 *
+	 * Precondition: The bounds are not null.
+	 *
+	 * Postcondition: A new list holding the matching elements in order is returned.
+	 *
+	 * @param lo The lowest element to include.
+	 * @param hi The element at which to stop, not included.
+	 * @return A new list of the elements in the range, empty if hi does not sort after lo.
+	 * @throws NullPointerException if either bound is null.
+	 * @author TerrellAW
+	 */
+	public MyArrayList<E> range( E lo, E hi ) throws NullPointerException {
+		if (lo == null || hi == null) {
+			throw new NullPointerException("Range bounds cannot be null");
+		}
+
+		int from = lowerBound(lo);
+		int to = lowerBound(hi);
+		MyArrayList<E> result = new MyArrayList<>(Math.max(to - from, 0));
+
+		for (int i = from; i < to; i++) {
+			result.add(list.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the index of the first element that is not less than the key.
+	 *
+	 * Precondition: The key is not null.
+	 *
+	 * Postcondition: An insertion point between 0 and size is returned.
+	 *
+	 * @param key The element to search for.
+	 * @return The lowest index whose element compares greater than or equal to the key.
+	 * @author TerrellAW
+	 */
+	private int lowerBound( E key ) {
+		int low = 0;
+		int high = list.size();
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (comparator.compare(list.get(mid), key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first element that is greater than the key.
+	 *
+	 * Precondition: The key is not null.
+	 *
+	 * Postcondition: An insertion point between 0 and size is returned.
+	 *
+	 * @param key The element to search for.
+	 * @return The lowest index whose element compares greater than the key.
+	 * @author TerrellAW
+	 */
+	private int upperBound( E key ) {
+		int low = 0;
+		int high = list.size();
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (comparator.compare(list.get(mid), key) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Checks that an element sorts between the element before index and the element at next.
+	 *
+	 * Precondition: The indices are within bounds.
+	 *
+	 * Postcondition: True is returned if placing the element keeps the list sorted.
+	 *
+	 * @param index The position the element would occupy.
+	 * @param element The element to check.
+	 * @param next The index of the element that would follow it.
+	 * @return True if the element fits, otherwise false.
+	 * @author TerrellAW
+	 */
+	private boolean fitsAt( int index, E element, int next ) {
+		if (index > 0 && comparator.compare(list.get(index - 1), element) > 0) {
+			return false;
+		}
+		return next >= list.size() || comparator.compare(element, list.get(next)) <= 0;
+	}
+
+	/**
+	 * Converts the list into an array, in sorted order.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		return list.toArray(toHold);
+	}
+
+	/**
+	 * Returns an array containing the elements of the list, in sorted order.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A copy of the elements is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		return list.toArray();
+	}
+
+	/**
+	 * Returns an iterator over the elements in sorted order.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return list.iterator();
+	}
+}
@@ -0,0 +1,408 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Thread-safe array list for mixed read and write traffic.
+ * Wraps a <code>MyArrayList</code> behind a <code>StampedLock</code>: <code>get</code>, <code>size</code>,
+ * <code>isEmpty</code> and <code>contains</code> first try an optimistic read that takes no lock at all
+ * and only fall back to a shared read lock if a writer got in while they ran. All mutations hold the
+ * exclusive write lock. Unlike <code>CopyOnWriteList</code>, writes cost no more than in <code>MyArrayList</code>.
+ *
+ * Iterators walk a copy taken under the read lock, so they stay valid while other threads write.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class StampedLockList<E> implements ListADT<E>
+{
+	private final StampedLock lock = new StampedLock();
+	private final MyArrayList<E> list;
+
+	/**
+	 * Constructor method.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list is initialized.
+	 *
+	 * @return A new StampedLockList object.
+	 * @author TerrellAW
+	 */
+	public StampedLockList() {
+		this.list = new MyArrayList<>();
+	}
+
+	/**
+	 * Runs a read-only action optimistically, repeating it under the read lock if a write overlapped it.
+	 * An exception thrown while a write was overlapping is treated as a torn read, not as a result.
+	 *
+	 * @param action The read to perform against the wrapped list.
+	 * @return The result of a read that did not overlap a write.
+	 * @author TerrellAW
+	 */
+	private <T> T read( Supplier<T> action ) {
+		long stamp = lock.tryOptimisticRead();
+
+		if (stamp != 0L) {
+			try {
+				T result = action.get();
+				if (lock.validate(stamp)) {
+					return result;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e; // No write overlapped, so the exception is genuine
+				}
+			}
+		}
+
+		stamp = lock.readLock();
+		try {
+			return action.get();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Returns the number of elements in the list, read optimistically.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		long stamp = lock.tryOptimisticRead();
+		int size = list.size();
+
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				size = list.size();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Clears all elements from the list under the write lock.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			list.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Adds a new element at the specified index under the write lock.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		long stamp = lock.writeLock();
+		try {
+			return list.add(index, toAdd);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Adds a new element to the end of the list under the write lock.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		long stamp = lock.writeLock();
+		try {
+			return list.add(toAdd);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of the list under the write lock.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] elements = toAdd.toArray(); // Read the source before locking so the two lists never lock each other
+		long stamp = lock.writeLock();
+		try {
+			list.ensureCapacity(list.size() + elements.length);
+			for (Object element : elements) {
+				@SuppressWarnings("unchecked")
+				E next = (E)element;
+				list.add(next);
+			}
+			return true;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Retrieves the element at the specified index, read optimistically.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		return read(() -> list.get(index));
+	}
+
+	/**
+	 * Removes the element at the specified index under the write lock.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		long stamp = lock.writeLock();
+		try {
+			return list.remove(index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element under the write lock.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		long stamp = lock.writeLock();
+		try {
+			return list.remove(toRemove);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Replaces the element at the specified index under the write lock.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		long stamp = lock.writeLock();
+		try {
+			return list.set(index, toChange);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Checks if the list is empty, read optimistically.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Checks if the list contains a specific element, scanning optimistically.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for in the list.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		return read(() -> list.contains(toFind));
+	}
+
+	/**
+	 * Copies the list into an array under the read lock.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		long stamp = lock.readLock();
+		try {
+			return list.toArray(toHold);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Returns a copy of the elements taken under the read lock.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		long stamp = lock.readLock();
+		try {
+			return list.toArray();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Returns an iterator over a copy of the elements taken under the read lock.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new CopyIterator<>(toArray());
+	}
+
+	/**
+	 * Private subclass for iterating through a copy taken under the read lock.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private static class CopyIterator<E> implements Iterator<E> {
+		private final Object[] copy;
+		private int cursor = 0;
+
+		/**
+		 * Creates an iterator over a copy of the list.
+		 *
+		 * @param copy The copied elements to walk.
+		 */
+		CopyIterator( Object[] copy ) {
+			this.copy = copy;
+		}
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor < copy.length;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException {
+			if (cursor >= copy.length) {
+				throw new NoSuchElementException("No more elements");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)copy[cursor++];
+			return element;
+		}
+	}
+}
@@ -0,0 +1,662 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Tiered vector: a list stored in fixed-size array chunks, each used as a circular buffer.
+ * Every chunk except the last is full, so the chunk holding an index is found with a shift and
+ * <code>get</code>/<code>set</code> stay O(1).
+ *
+ * An insert or remove shifts elements only inside the chunk it lands in, then passes one element
+ * across each later chunk boundary, which is O(1) per chunk because the chunks are circular.
+ * With chunks of B elements an edit costs O(B + n/B). The chunk size doubles whenever there are
+ * more than twice as many chunks as elements per chunk, keeping B close to the square root of the size,
+ * so edits anywhere in the list are O(sqrt n) while each chunk is still one contiguous array.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class TieredArrayList<E> implements ListADT<E>
+{
+	private static final int INITIAL_SHIFT = 6; // First chunks hold 64 elements
+	private static final int MAX_SHIFT = 16; // Chunks never grow past 65536 elements
+
+	private Object[][] chunks; // Each chunk is a circular buffer of chunkCapacity slots
+	private int[] heads; // Slot of the first element in each chunk
+	private int chunkCount;
+	private int shift; // log2 of the chunk capacity
+	private int mask; // Chunk capacity minus one
+	private int size;
+	private int modCount;
+
+	/**
+	 * Constructor method.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list is initialized.
+	 *
+	 * @return A new TieredArrayList object.
+	 * @author TerrellAW
+	 */
+	public TieredArrayList() {
+		reset(INITIAL_SHIFT);
+	}
+
+	/**
+	 * Drops all chunks and sets the chunk capacity.
+	 *
+	 * @param newShift log2 of the new chunk capacity.
+	 * @author TerrellAW
+	 */
+	private void reset( int newShift ) {
+		shift = newShift;
+		mask = (1 << newShift) - 1;
+		chunks = new Object[4][];
+		heads = new int[4];
+		chunkCount = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Clears all elements from the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		reset(INITIAL_SHIFT);
+		modCount++;
+	}
+
+	/**
+	 * Adds a new element at the specified index in the list.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (index == size) {
+			return add(toAdd);
+		}
+
+		if (lastChunkFull()) {
+			appendChunk();
+		}
+
+		int target = index >>> shift;
+
+		// Pass the last element of each earlier chunk to the front of the next, from the back forward
+		for (int c = chunkCount - 1; c > target; c--) {
+			pushFront(c, popBack(c - 1, mask + 1));
+		}
+
+		int count = target < chunkCount - 1 ? mask : chunkSize(target); // Full chunks just gave one element away
+		insertInChunk(target, index & mask, count, toAdd);
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of the list.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		if (lastChunkFull()) {
+			appendChunk();
+		}
+
+		int last = chunkCount - 1;
+		chunks[last][(heads[last] + (size & mask)) & mask] = toAdd;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of this list.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] elements = toAdd.toArray(); // Snapshot so adding a list to itself terminates
+		for (Object element : elements) {
+			@SuppressWarnings("unchecked")
+			E next = (E)element;
+			add(next);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		int c = index >>> shift;
+		@SuppressWarnings("unchecked")
+		E element = (E)chunks[c][(heads[c] + (index & mask)) & mask];
+		return element;
+	}
+
+	/**
+	 * Removes the element at the specified index from the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		int target = index >>> shift;
+		E element = removeInChunk(target, index & mask, chunkSize(target));
+
+		// Pull the first element of each later chunk back to the end of the one before it
+		int last = chunkCount - 1;
+		for (int c = target + 1; c <= last; c++) {
+			pushBack(c - 1, mask, popFront(c));
+		}
+		size--;
+
+		if ((size & mask) == 0 && chunkCount > size >>> shift) { // Last chunk emptied out
+			chunks[--chunkCount] = null;
+		}
+		modCount++;
+
+		return element;
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element from the list.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence is removed if present and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		int index = indexOf(toRemove);
+
+		if (index == -1) {
+			return null;
+		}
+		return remove(index);
+	}
+
+	/**
+	 * Replaces the element at the specified index with a new element.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		int c = index >>> shift;
+		int slot = (heads[c] + (index & mask)) & mask;
+		@SuppressWarnings("unchecked")
+		E element = (E)chunks[c][slot];
+		chunks[c][slot] = toChange;
+
+		return element;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if the list contains a specific element.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for in the list.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+
+		return indexOf(toFind) != -1;
+	}
+
+	/**
+	 * Returns the lowest index of the specified element, scanning one chunk at a time.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index is returned if the element is found, otherwise negative one.
+	 *
+	 * @param target The element to search for.
+	 * @return Index of the first occurrence if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( E target ) {
+		if (target == null) {
+			return -1;
+		}
+
+		for (int c = 0; c < chunkCount; c++) {
+			Object[] chunk = chunks[c];
+			int head = heads[c];
+			int count = chunkSize(c);
+			for (int i = 0; i < count; i++) {
+				if (target.equals(chunk[(head + i) & mask])) {
+					return (c << shift) + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Converts the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		copyInto(toHold);
+		return toHold;
+	}
+
+	/**
+	 * Returns an array containing the elements of the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		copyInto(result);
+		return result;
+	}
+
+	/**
+	 * Copies the elements in order to the start of an array, at most two copies per chunk.
+	 *
+	 * @param destination The array to copy into, at least size long.
+	 * @author TerrellAW
+	 */
+	private void copyInto( Object[] destination ) {
+		int capacity = mask + 1;
+
+		for (int c = 0; c < chunkCount; c++) {
+			int head = heads[c];
+			int count = chunkSize(c);
+			int firstPart = Math.min(count, capacity - head); // Elements before the buffer wraps around
+			System.arraycopy(chunks[c], head, destination, c << shift, firstPart);
+			System.arraycopy(chunks[c], 0, destination, (c << shift) + firstPart, count - firstPart);
+		}
+	}
+
+	/**
+	 * Returns an iterator.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new TieredIterator();
+	}
+
+	/**
+	 * Returns the number of elements in a chunk.
+	 *
+	 * @param c The chunk number.
+	 * @return The chunk capacity for all but the last chunk, the remainder for the last.
+	 * @author TerrellAW
+	 */
+	private int chunkSize( int c ) {
+		return c < chunkCount - 1 ? mask + 1 : size - (c << shift);
+	}
+
+	/**
+	 * Checks if a new chunk is needed before another element can be added.
+	 *
+	 * @return True if there are no chunks or every chunk is full.
+	 * @author TerrellAW
+	 */
+	private boolean lastChunkFull() {
+		return size == chunkCount << shift;
+	}
+
+	/**
+	 * Adds an empty chunk at the end, first doubling the chunk capacity if there are too many chunks.
+	 *
+	 * @author TerrellAW
+	 */
+	private void appendChunk() {
+		if (chunkCount >= (2 << shift) && shift < MAX_SHIFT) {
+			rechunk(shift + 1);
+		}
+
+		if (chunkCount == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunkCount * 2);
+			heads = Arrays.copyOf(heads, chunkCount * 2);
+		}
+		chunks[chunkCount] = new Object[mask + 1];
+		heads[chunkCount] = 0;
+		chunkCount++;
+	}
+
+	/**
+	 * Copies every element into chunks of a new capacity.
+	 *
+	 * @param newShift log2 of the new chunk capacity.
+	 * @author TerrellAW
+	 */
+	private void rechunk( int newShift ) {
+		Object[] elements = toArray();
+		int count = size;
+
+		reset(newShift);
+		int capacity = mask + 1;
+		int needed = (count + capacity - 1) >>> newShift;
+		chunks = new Object[Math.max(needed * 2, 4)][];
+		heads = new int[chunks.length];
+
+		for (int c = 0; c < needed; c++) {
+			chunks[c] = new Object[capacity];
+			System.arraycopy(elements, c << newShift, chunks[c], 0, Math.min(capacity, count - (c << newShift)));
+		}
+		chunkCount = needed;
+		size = count;
+	}
+
+	/**
+	 * Inserts an element into a chunk that has at least one free slot, shifting the shorter side.
+	 *
+	 * @param c The chunk number.
+	 * @param local The position inside the chunk.
+	 * @param count The number of elements in the chunk before the insert.
+	 * @param element The element to insert.
+	 * @author TerrellAW
+	 */
+	private void insertInChunk( int c, int local, int count, Object element ) {
+		Object[] chunk = chunks[c];
+		int head = heads[c];
+
+		if (local < count - local) { // Closer to the front, move the front back by one
+			head = (head - 1) & mask;
+			for (int i = 0; i < local; i++) {
+				chunk[(head + i) & mask] = chunk[(head + i + 1) & mask];
+			}
+			heads[c] = head;
+		} else {
+			for (int i = count; i > local; i--) {
+				chunk[(head + i) & mask] = chunk[(head + i - 1) & mask];
+			}
+		}
+		chunk[(head + local) & mask] = element;
+	}
+
+	/**
+	 * Removes an element from a chunk, shifting the shorter side to close the gap.
+	 *
+	 * @param c The chunk number.
+	 * @param local The position inside the chunk.
+	 * @param count The number of elements in the chunk before the remove.
+	 * @return The removed element.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	private E removeInChunk( int c, int local, int count ) {
+		Object[] chunk = chunks[c];
+		int head = heads[c];
+		E element = (E)chunk[(head + local) & mask];
+
+		if (local < count - local - 1) { // Closer to the front, move the front forward by one
+			for (int i = local; i > 0; i--) {
+				chunk[(head + i) & mask] = chunk[(head + i - 1) & mask];
+			}
+			chunk[head] = null;
+			heads[c] = (head + 1) & mask;
+		} else {
+			for (int i = local; i < count - 1; i++) {
+				chunk[(head + i) & mask] = chunk[(head + i + 1) & mask];
+			}
+			chunk[(head + count - 1) & mask] = null;
+		}
+		return element;
+	}
+
+	/**
+	 * Removes and returns the last element of a chunk holding count elements.
+	 *
+	 * @param c The chunk number.
+	 * @param count The number of elements in the chunk.
+	 * @return The removed element.
+	 * @author TerrellAW
+	 */
+	private Object popBack( int c, int count ) {
+		int slot = (heads[c] + count - 1) & mask;
+		Object element = chunks[c][slot];
+		chunks[c][slot] = null;
+		return element;
+	}
+
+	/**
+	 * Adds an element in front of the first element of a chunk that has a free slot.
+	 *
+	 * @param c The chunk number.
+	 * @param element The element to add.
+	 * @author TerrellAW
+	 */
+	private void pushFront( int c, Object element ) {
+		int head = (heads[c] - 1) & mask;
+		chunks[c][head] = element;
+		heads[c] = head;
+	}
+
+	/**
+	 * Removes and returns the first element of a chunk.
+	 *
+	 * @param c The chunk number.
+	 * @return The removed element.
+	 * @author TerrellAW
+	 */
+	private Object popFront( int c ) {
+		int head = heads[c];
+		Object element = chunks[c][head];
+		chunks[c][head] = null;
+		heads[c] = (head + 1) & mask;
+		return element;
+	}
+
+	/**
+	 * Adds an element after the last element of a chunk holding count elements.
+	 *
+	 * @param c The chunk number.
+	 * @param count The number of elements in the chunk.
+	 * @param element The element to add.
+	 * @author TerrellAW
+	 */
+	private void pushBack( int c, int count, Object element ) {
+		chunks[c][(heads[c] + count) & mask] = element;
+	}
+
+	/**
+	 * Private subclass for iterating through <code>TieredArrayList</code>.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class TieredIterator implements Iterator<E> {
+		private int cursor = 0;
+		private int expectedModCount = modCount;
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @throws ConcurrentModificationException if the list was structurally modified during iteration.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException, ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (cursor >= size) {
+				throw new NoSuchElementException("No more elements");
+			}
+
+			int c = cursor >>> shift;
+			@SuppressWarnings("unchecked")
+			E element = (E)chunks[c][(heads[c] + (cursor & mask)) & mask];
+			cursor++;
+			return element;
+		}
+	}
+}
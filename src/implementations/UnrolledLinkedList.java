@@ -0,0 +1,605 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Unrolled doubly linked list: a linked list whose nodes each hold a small array of elements.
+ * Scans such as <code>contains</code>, <code>remove(E)</code> and <code>toArray</code> read whole arrays
+ * between pointer hops, so they run at close to array speed. The per-element overhead is a fraction of
+ * a reference instead of a separate node object with two links.
+ *
+ * An insert into a full node splits it into two half-full nodes. A remove that leaves a node less than
+ * half full takes elements from the next node, or merges with it when both fit in one node. So every
+ * node except the last stays at least half full, and an index is found by walking at most n / (B / 2)
+ * nodes from the nearer end, where B is the node capacity.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ * @param <E> The type of elements held in this list.
+ */
+public class UnrolledLinkedList<E> implements ListADT<E>
+{
+	private static final int DEFAULT_NODE_CAPACITY = 32;
+
+	private final int nodeCapacity;
+	private Block head;
+	private Block tail;
+	private int size;
+	private int modCount;
+	private int foundOffset; // Offset within the block last returned by blockFor
+
+	/**
+	 * Node of the list, holding up to <code>nodeCapacity</code> elements packed at the front of its array.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private final class Block {
+		final Object[] items = new Object[nodeCapacity];
+		int count;
+		Block prev;
+		Block next;
+	}
+
+	/**
+	 * Constructor method with 32 elements per node.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Empty list is initialized.
+	 *
+	 * @return A new UnrolledLinkedList object.
+	 * @author TerrellAW
+	 */
+	public UnrolledLinkedList() {
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * Constructor method with a chosen node capacity.
+	 * Capacities of 16 to 64 keep a node within a few cache lines.
+	 *
+	 * Precondition: The node capacity is at least 4.
+	 *
+	 * Postcondition: Empty list is initialized.
+	 *
+	 * @param nodeCapacity The number of elements each node can hold.
+	 * @return A new UnrolledLinkedList object.
+	 * @throws IllegalArgumentException if the node capacity is less than 4.
+	 * @author TerrellAW
+	 */
+	public UnrolledLinkedList( int nodeCapacity ) throws IllegalArgumentException {
+		if (nodeCapacity < 4) {
+			throw new IllegalArgumentException("Node capacity must be at least 4: " + nodeCapacity);
+		}
+		this.nodeCapacity = nodeCapacity;
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The current size of the list is returned.
+	 *
+	 * @return The current size of the list.
+	 * @author TerrellAW
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Clears all elements from the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: The list is empty.
+	 *
+	 * @author TerrellAW
+	 */
+	public void clear() {
+		head = null;
+		tail = null;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Adds a new element at the specified index in the list.
+	 * Only the elements after the index in the same node move; a full node is split first.
+	 *
+	 * Precondition: Element to add is not null and index is within bounds.
+	 *
+	 * Postcondition: The element is added at the specified index and the size of the list increases by one.
+	 *
+	 * @param index The position where the new element will be added.
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws exceptions.
+	 * @throws NullPointerException if the element to add is null.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public boolean add( int index, E toAdd ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (index == size) {
+			return add(toAdd);
+		}
+
+		Block block = blockFor(index);
+		int offset = foundOffset;
+
+		if (block.count == nodeCapacity) { // Split, moving the upper half to a new node after this one
+			Block upper = insertBlockAfter(block);
+			int half = nodeCapacity >>> 1;
+			System.arraycopy(block.items, half, upper.items, 0, nodeCapacity - half);
+			Arrays.fill(block.items, half, nodeCapacity, null);
+			upper.count = nodeCapacity - half;
+			block.count = half;
+			if (offset > half) {
+				block = upper;
+				offset -= half;
+			}
+		}
+
+		System.arraycopy(block.items, offset, block.items, offset + 1, block.count - offset);
+		block.items[offset] = toAdd;
+		block.count++;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Adds a new element to the end of the list.
+	 *
+	 * Precondition: Element to add is not null.
+	 *
+	 * Postcondition: The element is added to the end of the list and the size of the list increases by one.
+	 *
+	 * @param toAdd The element to add to the list.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the element to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean add( E toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Element to add cannot be null");
+		}
+
+		if (tail == null || tail.count == nodeCapacity) {
+			insertBlockAfter(tail);
+		}
+		tail.items[tail.count++] = toAdd;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	/**
+	 * Adds all elements from another collection to the end of this list.
+	 *
+	 * Precondition: The collection to add is not null.
+	 *
+	 * Postcondition: All elements from the specified collection are added to this list in order.
+	 *
+	 * @param toAdd The collection of elements to add.
+	 * @return True if the addition is successful, otherwise throws an exception.
+	 * @throws NullPointerException if the list to add is null.
+	 * @author TerrellAW
+	 */
+	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add elements from a null list");
+		}
+
+		Object[] elements = toAdd.toArray(); // Snapshot so adding a list to itself terminates
+		for (Object element : elements) {
+			@SuppressWarnings("unchecked")
+			E next = (E)element;
+			add(next);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the element at the specified index in the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is returned.
+	 *
+	 * @param index The position of the element to retrieve.
+	 * @return The element at the specified index.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E get( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		Block block = blockFor(index);
+		@SuppressWarnings("unchecked")
+		E element = (E)block.items[foundOffset];
+		return element;
+	}
+
+	/**
+	 * Removes the element at the specified index from the list.
+	 *
+	 * Precondition: The index is within the bounds of this list.
+	 *
+	 * Postcondition: The element at the specified index is removed and the size of the list decreases by one.
+	 *
+	 * @param index The position of the element to remove.
+	 * @return The removed element.
+	 * @throws IndexOutOfBoundsException if the specified index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E remove( int index ) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		Block block = blockFor(index);
+		return removeAt(block, foundOffset);
+	}
+
+	/**
+	 * Removes the specified element from the list.
+	 *
+	 * Precondition: The element to remove is not null.
+	 *
+	 * Postcondition: The first occurrence of the element is removed and the size of the list decreases by one.
+	 *
+	 * @param toRemove The element to remove from the list.
+	 * @return The removed element, or null if the element was not found.
+	 * @throws NullPointerException if the element to remove is null.
+	 * @author TerrellAW
+	 */
+	public E remove( E toRemove ) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Element to remove must exist");
+		}
+
+		for (Block block = head; block != null; block = block.next) {
+			Object[] items = block.items;
+			for (int i = 0; i < block.count; i++) {
+				if (toRemove.equals(items[i])) {
+					return removeAt(block, i);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes an element from a block and rebalances the block with its successor if it is under half full.
+	 *
+	 * @param block The block holding the element.
+	 * @param offset The element's offset in the block.
+	 * @return The removed element.
+	 * @author TerrellAW
+	 */
+	private E removeAt( Block block, int offset ) {
+		@SuppressWarnings("unchecked")
+		E element = (E)block.items[offset];
+
+		System.arraycopy(block.items, offset + 1, block.items, offset, block.count - offset - 1);
+		block.items[--block.count] = null;
+		size--;
+		modCount++;
+
+		int half = nodeCapacity >>> 1;
+		Block next = block.next;
+		if (block.count == 0) {
+			unlinkBlock(block);
+		} else if (block.count < half && next != null) {
+			if (block.count + next.count <= nodeCapacity) { // Merge the successor into this block
+				System.arraycopy(next.items, 0, block.items, block.count, next.count);
+				block.count += next.count;
+				unlinkBlock(next);
+			} else { // Borrow from the successor until both are about equal
+				int moved = (next.count - block.count) >>> 1;
+				System.arraycopy(next.items, 0, block.items, block.count, moved);
+				System.arraycopy(next.items, moved, next.items, 0, next.count - moved);
+				Arrays.fill(next.items, next.count - moved, next.count, null);
+				block.count += moved;
+				next.count -= moved;
+			}
+		}
+		return element;
+	}
+
+	/**
+	 * Replaces the element at the specified index with a new element.
+	 *
+	 * Precondition: The new value is not null and the index is within bounds.
+	 *
+	 * Postcondition: The element at the specified index is replaced and the original element is returned.
+	 *
+	 * @param index The position of the element to replace.
+	 * @param toChange The new element to set.
+	 * @return The replaced element.
+	 * @throws NullPointerException if the new value is null.
+	 * @throws IndexOutOfBoundsException if the index is beyond the size of this list.
+	 * @author TerrellAW
+	 */
+	public E set( int index, E toChange ) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("New value cannot be null");
+		} else if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index (" + index + ") is out of bounds (" + size + ")");
+		}
+
+		Block block = blockFor(index);
+		@SuppressWarnings("unchecked")
+		E element = (E)block.items[foundOffset];
+		block.items[foundOffset] = toChange;
+		return element;
+	}
+
+	/**
+	 * Checks if the list is empty.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: True is returned if the list has no elements, otherwise false.
+	 *
+	 * @return True if list is empty, false if not.
+	 * @author TerrellAW
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if the list contains a specific element.
+	 *
+	 * Precondition: The element to find is not null.
+	 *
+	 * Postcondition: True is returned if the element is found, otherwise false.
+	 *
+	 * @param toFind The element to search for.
+	 * @return True if the element is found, otherwise false.
+	 * @throws NullPointerException if the element to find is null.
+	 * @author TerrellAW
+	 */
+	public boolean contains( E toFind ) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Can't search for null");
+		}
+		return indexOf(toFind) != -1;
+	}
+
+	/**
+	 * Returns the lowest index of the specified element, scanning one node array at a time.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: Index is returned if the element is found, otherwise negative one.
+	 *
+	 * @param target The element to search for.
+	 * @return Index of the first occurrence if found, otherwise -1.
+	 * @author TerrellAW
+	 */
+	public int indexOf( E target ) {
+		if (target == null) {
+			return -1;
+		}
+
+		int base = 0;
+		for (Block block = head; block != null; block = block.next) {
+			Object[] items = block.items;
+			for (int i = 0; i < block.count; i++) {
+				if (target.equals(items[i])) {
+					return base + i;
+				}
+			}
+			base += block.count;
+		}
+		return -1;
+	}
+
+	/**
+	 * Converts the list into an array.
+	 *
+	 * Precondition: The provided array is not null.
+	 *
+	 * Postcondition: An array containing all the elements of the list is returned. Array will be enlarged as needed.
+	 *
+	 * @param toHold The array to hold the elements. If too small, a new one will be created.
+	 * @return An array containing all the elements of the list.
+	 * @throws NullPointerException if the provided array is null.
+	 * @author TerrellAW
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray( E[] toHold ) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Can't use null array.");
+		}
+
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		copyInto(toHold);
+		return toHold;
+	}
+
+	/**
+	 * Returns an array containing the elements of the list.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: A new array holding the elements in order is returned.
+	 *
+	 * @return An array containing all the elements of the list.
+	 * @author TerrellAW
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		copyInto(result);
+		return result;
+	}
+
+	/**
+	 * Copies every node's elements, one array copy per node, to the start of an array.
+	 *
+	 * @param destination The array to copy into, at least size long.
+	 * @author TerrellAW
+	 */
+	private void copyInto( Object[] destination ) {
+		int position = 0;
+		for (Block block = head; block != null; block = block.next) {
+			System.arraycopy(block.items, 0, destination, position, block.count);
+			position += block.count;
+		}
+	}
+
+	/**
+	 * Returns an iterator that walks each node's array in turn.
+	 *
+	 * Precondition: None.
+	 *
+	 * Postcondition: An iterator is returned for traversing the list.
+	 *
+	 * @return An iterator for the list.
+	 * @author TerrellAW
+	 */
+	public Iterator<E> iterator() {
+		return new UnrolledIterator();
+	}
+
+	/**
+	 * Returns the block holding an index and stores the index's offset in that block in <code>foundOffset</code>.
+	 * Walks from whichever end of the list is closer.
+	 *
+	 * @param index A valid index.
+	 * @return The block holding the index.
+	 * @author TerrellAW
+	 */
+	private Block blockFor( int index ) {
+		Block block;
+		if (index < size >>> 1) {
+			block = head;
+			while (index >= block.count) {
+				index -= block.count;
+				block = block.next;
+			}
+		} else {
+			block = tail;
+			int fromEnd = size - 1 - index;
+			while (fromEnd >= block.count) {
+				fromEnd -= block.count;
+				block = block.prev;
+			}
+			index = block.count - 1 - fromEnd;
+		}
+		foundOffset = index;
+		return block;
+	}
+
+	/**
+	 * Links a new empty block after a block, or at the front when the block is null and the list is empty.
+	 *
+	 * @param before The block to insert after, or null for an empty list.
+	 * @return The new block.
+	 * @author TerrellAW
+	 */
+	private Block insertBlockAfter( Block before ) {
+		Block block = new Block();
+		block.prev = before;
+		if (before == null) {
+			head = block;
+			tail = block;
+		} else {
+			block.next = before.next;
+			before.next = block;
+			if (block.next == null) {
+				tail = block;
+			} else {
+				block.next.prev = block;
+			}
+		}
+		return block;
+	}
+
+	/**
+	 * Unlinks a block from the chain.
+	 *
+	 * @param block The block to remove.
+	 * @author TerrellAW
+	 */
+	private void unlinkBlock( Block block ) {
+		if (block.prev == null) {
+			head = block.next;
+		} else {
+			block.prev.next = block.next;
+		}
+		if (block.next == null) {
+			tail = block.prev;
+		} else {
+			block.next.prev = block.prev;
+		}
+	}
+
+	/**
+	 * Private subclass for iterating through <code>UnrolledLinkedList</code>.
+	 *
+	 * @author TerrellAW
+	 * @version 19-11-2025
+	 */
+	private class UnrolledIterator implements Iterator<E> {
+		private Block block = head;
+		private int offset = 0;
+		private int expectedModCount = modCount;
+
+		/**
+		 * Checks if there are more elements after the cursor.
+		 *
+		 * @return True if there are more elements, otherwise false.
+		 * @author TerrellAW
+		 */
+		public boolean hasNext() {
+			return block != null && offset < block.count;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return The next element in the iteration.
+		 * @throws NoSuchElementException if there is no next element.
+		 * @throws ConcurrentModificationException if the list was structurally modified during iteration.
+		 * @author TerrellAW
+		 */
+		public E next() throws NoSuchElementException, ConcurrentModificationException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements");
+			}
+
+			@SuppressWarnings("unchecked")
+			E element = (E)block.items[offset++];
+			if (offset == block.count) { // Step to the next node; nodes are never left empty
+				block = block.next;
+				offset = 0;
+			}
+			return element;
+		}
+	}
+}
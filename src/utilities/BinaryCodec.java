@@ -0,0 +1,47 @@
+package utilities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a compact binary form, so a list can be saved
+ * to disk and read back in place from a mapped file.
+ * Encoding must be deterministic: equal elements must produce identical bytes,
+ * because mapped lists compare elements by their encoded form.
+ *
+ * @param <E> The type of elements this codec handles.
+ */
+public interface BinaryCodec<E>
+{
+	/**
+	 * Value returned by <code>fixedSize()</code> for codecs whose encodings vary in length.
+	 */
+	public static final int VARIABLE_SIZE = -1;
+
+	/**
+	 * Returns the number of bytes in every encoding, or <code>VARIABLE_SIZE</code>
+	 * if encodings differ in length. Fixed-size elements are stored without an
+	 * offset table and located by multiplication.
+	 * 
+	 * @return The encoded size in bytes, or <code>VARIABLE_SIZE</code>.
+	 */
+	public int fixedSize();
+
+	/**
+	 * Encodes an element.
+	 * 
+	 * @param element The element to encode, never null.
+	 * @return The encoded bytes. For a fixed-size codec the array must be exactly
+	 *         <code>fixedSize()</code> long.
+	 */
+	public byte[] encode( E element );
+
+	/**
+	 * Decodes an element from a buffer without changing the buffer's position.
+	 * 
+	 * @param buffer The buffer holding the encoding.
+	 * @param offset The absolute index of the first byte of the encoding.
+	 * @param length The number of bytes in the encoding.
+	 * @return The decoded element.
+	 */
+	public E decode( ByteBuffer buffer, int offset, int length );
+}
@@ -0,0 +1,28 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Mono-directional iterator over primitive <code>int</code> values. It mirrors
+ * <code>utilities.Iterator</code> but returns the primitive directly so that
+ * walking a primitive list never boxes its elements.
+ */
+public interface IntIterator
+{
+	/**
+	 * Returns <code>true</code> if the iteration has more elements. (In other
+	 * words, returns <code>true</code> if <code>nextInt()</code> would return a
+	 * value rather than throwing an exception.)
+	 * 
+	 * @return <code>true</code> if the iterator has more elements.
+	 */
+	public boolean hasNext();
+
+	/**
+	 * Returns the next value in the iteration.
+	 * 
+	 * @return The next value in the iteration.
+	 * @throws NoSuchElementException If the iteration has no more elements.
+	 */
+	public int nextInt() throws NoSuchElementException;
+}
@@ -0,0 +1,75 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Bidirectional iterator for a linear data structure. It extends
+ * <code>utilities.Iterator</code> with backward movement and with changes at the
+ * cursor. The cursor always sits between two elements, so inserting and
+ * removing there needs no search.
+ *
+ * @param <E> The type of element this iterator returns.
+ */
+public interface ListIterator<E> extends Iterator<E>
+{
+	/**
+	 * Returns <code>true</code> if there is an element before the cursor. (In
+	 * other words, returns <code>true</code> if <code>previous()</code> would
+	 * return an element rather than throwing an exception.)
+	 * 
+	 * @return <code>true</code> if the iterator has a previous element.
+	 */
+	public boolean hasPrevious();
+
+	/**
+	 * Returns the element before the cursor and moves the cursor back.
+	 * 
+	 * @return The previous element in the iteration.
+	 * @throws NoSuchElementException If there is no previous element.
+	 */
+	public E previous() throws NoSuchElementException;
+
+	/**
+	 * Returns the index of the element that <code>next()</code> would return.
+	 * 
+	 * @return The index after the cursor, or the list size at the end.
+	 */
+	public int nextIndex();
+
+	/**
+	 * Returns the index of the element that <code>previous()</code> would return.
+	 * 
+	 * @return The index before the cursor, or -1 at the start.
+	 */
+	public int previousIndex();
+
+	/**
+	 * Removes the element last returned by <code>next()</code> or
+	 * <code>previous()</code>.
+	 * 
+	 * @throws IllegalStateException If neither has been called since the last
+	 *                               <code>add</code> or <code>remove</code>.
+	 */
+	public void remove() throws IllegalStateException;
+
+	/**
+	 * Replaces the element last returned by <code>next()</code> or
+	 * <code>previous()</code>.
+	 * 
+	 * @param toChange The new element.
+	 * @throws NullPointerException  If the new element is null.
+	 * @throws IllegalStateException If neither has been called since the last
+	 *                               <code>add</code> or <code>remove</code>.
+	 */
+	public void set( E toChange ) throws NullPointerException, IllegalStateException;
+
+	/**
+	 * Inserts an element at the cursor. The element goes before the element that
+	 * <code>next()</code> would return, so a later <code>next()</code> is not
+	 * affected by it.
+	 * 
+	 * @param toAdd The element to insert.
+	 * @throws NullPointerException If the element to insert is null.
+	 */
+	public void add( E toAdd ) throws NullPointerException;
+}
@@ -0,0 +1,98 @@
+package benchmarks;
+
+import implementations.MyArrayList;
+
+/**
+ * Compares middle inserts and removes on <code>MyArrayList</code> against the
+ * previous segment-copying algorithm, which allocated two temporary segment
+ * arrays and a result array for every edit.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class ArrayListEditBenchmark
+{
+	private static final int[] SIZES = { 10_000, 100_000, 1_000_000 };
+	private static final int EDITS = 1_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main( String[] args ) {
+		for (int n : SIZES) {
+			BenchmarkRunner.measure("MyArrayList in-place edits, n=" + n, () -> {
+				MyArrayList<Integer> list = new MyArrayList<>(n + EDITS);
+				for (int i = 0; i < n; i++) {
+					list.add(i);
+				}
+				for (int i = 0; i < EDITS; i++) {
+					list.add(list.size() / 2, i);
+				}
+				for (int i = 0; i < EDITS; i++) {
+					list.remove(list.size() / 2);
+				}
+				BenchmarkRunner.blackhole = list;
+			});
+
+			BenchmarkRunner.measure("Segment-copy edits (previous), n=" + n, () -> {
+				Object[] array = new Object[n];
+				for (int i = 0; i < n; i++) {
+					array[i] = i;
+				}
+				for (int i = 0; i < EDITS; i++) {
+					array = segmentInsert(array, array.length / 2, i);
+				}
+				for (int i = 0; i < EDITS; i++) {
+					array = segmentRemove(array, array.length / 2);
+				}
+				BenchmarkRunner.blackhole = array;
+			});
+		}
+	}
+
+	/**
+	 * The previous <code>add(int, E)</code> algorithm, kept here as the baseline.
+	 *
+	 * @param array The current contents.
+	 * @param index The insert position.
+	 * @param toAdd The element to insert.
+	 * @return A new array holding the result.
+	 */
+	private static Object[] segmentInsert( Object[] array, int index, Object toAdd ) {
+		Object[] firstSegment = new Object[index + 1];
+		Object[] secondSegment = new Object[array.length - index];
+
+		System.arraycopy(array, 0, firstSegment, 0, index);
+		System.arraycopy(array, index, secondSegment, 0, array.length - index);
+
+		firstSegment[index] = toAdd;
+		Object[] result = new Object[firstSegment.length + secondSegment.length];
+
+		System.arraycopy(firstSegment, 0, result, 0, firstSegment.length);
+		System.arraycopy(secondSegment, 0, result, firstSegment.length, secondSegment.length);
+		return result;
+	}
+
+	/**
+	 * The previous <code>remove(int)</code> algorithm, kept here as the baseline.
+	 *
+	 * @param array The current contents.
+	 * @param index The position to remove.
+	 * @return A new array holding the result.
+	 */
+	private static Object[] segmentRemove( Object[] array, int index ) {
+		int newSize = array.length - 1;
+		Object[] firstSegment = new Object[index];
+		Object[] secondSegment = new Object[newSize - index];
+
+		System.arraycopy(array, 0, firstSegment, 0, firstSegment.length);
+		System.arraycopy(array, index + 1, secondSegment, 0, secondSegment.length);
+
+		Object[] result = new Object[firstSegment.length + secondSegment.length];
+		System.arraycopy(firstSegment, 0, result, 0, firstSegment.length);
+		System.arraycopy(secondSegment, 0, result, firstSegment.length, secondSegment.length);
+		return result;
+	}
+}
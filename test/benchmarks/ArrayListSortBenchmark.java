@@ -0,0 +1,72 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import implementations.MyArrayList;
+
+/**
+ * Compares <code>MyArrayList.sort</code> and <code>MyArrayList.parallelSort</code>
+ * with <code>Arrays.sort</code> and <code>Arrays.parallelSort</code> on the same
+ * shuffled data.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class ArrayListSortBenchmark
+{
+	private static final int[] SIZES = { 1_000_000, 4_000_000 };
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main( String[] args ) {
+		Comparator<Integer> order = Comparator.naturalOrder();
+
+		for (int n : SIZES) {
+			Integer[] data = new Integer[n];
+			Random random = new Random(304);
+			for (int i = 0; i < n; i++) {
+				data[i] = random.nextInt();
+			}
+
+			BenchmarkRunner.measure("MyArrayList.sort, n=" + n, () -> {
+				MyArrayList<Integer> list = fill(data);
+				list.sort(order);
+				BenchmarkRunner.blackhole = list;
+			});
+			BenchmarkRunner.measure("Arrays.sort, n=" + n, () -> {
+				Integer[] copy = data.clone();
+				Arrays.sort(copy, order);
+				BenchmarkRunner.blackhole = copy;
+			});
+			BenchmarkRunner.measure("MyArrayList.parallelSort, n=" + n, () -> {
+				MyArrayList<Integer> list = fill(data);
+				list.parallelSort(order);
+				BenchmarkRunner.blackhole = list;
+			});
+			BenchmarkRunner.measure("Arrays.parallelSort, n=" + n, () -> {
+				Integer[] copy = data.clone();
+				Arrays.parallelSort(copy, order);
+				BenchmarkRunner.blackhole = copy;
+			});
+		}
+	}
+
+	/**
+	 * Copies the data into a new list sized to hold it.
+	 *
+	 * @param data The values to add.
+	 * @return A new list holding the values.
+	 */
+	private static MyArrayList<Integer> fill( Integer[] data ) {
+		MyArrayList<Integer> list = new MyArrayList<>(data.length);
+		for (Integer value : data) {
+			list.add(value);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Minimal timing harness shared by the benchmark drivers in this package.
+ * Each task is run a number of warm-up rounds so the JIT can compile it, then
+ * timed over several measured rounds and the median is reported.
+ *
+ * These drivers are plain <code>main</code> programs so they run from the IDE
+ * without extra libraries; numbers are indicative, not a substitute for JMH.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public final class BenchmarkRunner
+{
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASURED_ROUNDS = 5;
+
+	/**
+	 * Sink that benchmark tasks write results into so the JIT cannot eliminate their work.
+	 */
+	public static volatile Object blackhole;
+
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Runs a task through warm-up and measured rounds and prints the median time.
+	 *
+	 * Precondition: The task is not null and can be run repeatedly.
+	 *
+	 * Postcondition: A line with the label and the median time in milliseconds is printed.
+	 *
+	 * @param label Name of the measurement printed next to the result.
+	 * @param task The work to time.
+	 * @return The median time of the measured rounds in nanoseconds.
+	 * @author TerrellAW
+	 */
+	public static long measure( String label, Runnable task ) {
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			task.run();
+		}
+
+		long[] times = new long[MEASURED_ROUNDS];
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			long start = System.nanoTime();
+			task.run();
+			times[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(times);
+
+		long median = times[MEASURED_ROUNDS / 2];
+		System.out.printf("%-50s %12.3f ms%n", label, median / 1_000_000.0);
+		return median;
+	}
+
+	/**
+	 * Runs a task through warm-up rounds, then reports how many heap bytes one measured round
+	 * allocated per operation, read from the current thread's allocation counter.
+	 *
+	 * Precondition: The task is not null, runs on the calling thread and performs the given number of operations.
+	 *
+	 * Postcondition: A line with the label and the allocated bytes per operation is printed.
+	 *
+	 * @param label Name of the measurement printed next to the result.
+	 * @param operations Number of operations one run of the task performs.
+	 * @param task The work to measure.
+	 * @return Allocated bytes per operation, or -1 if the JVM does not count allocations per thread.
+	 * @author TerrellAW
+	 */
+	public static double measureAllocation( String label, int operations, Runnable task ) {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+			System.out.printf("%-50s %s%n", label, "allocation counter not available");
+			return -1;
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			task.run();
+		}
+
+		long before = threads.getThreadAllocatedBytes(thread);
+		task.run();
+		double perOperation = (double) (threads.getThreadAllocatedBytes(thread) - before) / operations;
+
+		System.out.printf("%-50s %12.2f bytes/op%n", label, perOperation);
+		return perOperation;
+	}
+}
@@ -0,0 +1,130 @@
+package benchmarks;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import implementations.CopyOnWriteList;
+import implementations.MyArrayList;
+
+/**
+ * Read throughput of a shared lookup list with one writer and N reader threads.
+ * Readers call <code>contains</code> and <code>get</code> in a loop; the writer
+ * replaces an element about every 100 microseconds. <code>CopyOnWriteList</code>
+ * is compared with a <code>MyArrayList</code> guarded by <code>synchronized</code>.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class ConcurrentReadBenchmark
+{
+	private static final int LIST_SIZE = 1_000;
+	private static final int[] READERS = { 1, 2, 4, 8 };
+	private static final long RUN_MILLIS = 1_000;
+
+	/**
+	 * The read and write operations of one list under test.
+	 */
+	private interface Workload {
+		/**
+		 * Performs one read.
+		 *
+		 * @param key Varies the element read.
+		 * @return A value derived from the read so the work is not eliminated.
+		 */
+		int read( int key );
+
+		/**
+		 * Performs one write.
+		 *
+		 * @param key Varies the element written.
+		 */
+		void write( int key );
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 * @throws InterruptedException if interrupted while waiting for the threads.
+	 */
+	public static void main( String[] args ) throws InterruptedException {
+		for (int readers : READERS) {
+			CopyOnWriteList<Integer> cow = new CopyOnWriteList<>();
+			MyArrayList<Integer> plain = new MyArrayList<>();
+			for (int i = 0; i < LIST_SIZE; i++) {
+				cow.add(i);
+				plain.add(i);
+			}
+
+			run("CopyOnWriteList", readers, new Workload() {
+				public int read( int key ) {
+					return (cow.contains(key % (2 * LIST_SIZE)) ? 1 : 0) + cow.get(key % LIST_SIZE);
+				}
+
+				public void write( int key ) {
+					cow.set(key % LIST_SIZE, key % LIST_SIZE);
+				}
+			});
+
+			run("synchronized MyArrayList", readers, new Workload() {
+				public int read( int key ) {
+					synchronized (plain) {
+						return (plain.contains(key % (2 * LIST_SIZE)) ? 1 : 0) + plain.get(key % LIST_SIZE);
+					}
+				}
+
+				public void write( int key ) {
+					synchronized (plain) {
+						plain.set(key % LIST_SIZE, key % LIST_SIZE);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Runs the readers and the writer for a fixed time and prints reads per second.
+	 *
+	 * @param name Name of the list under test.
+	 * @param readers Number of reader threads.
+	 * @param workload The operations to run.
+	 * @throws InterruptedException if interrupted while waiting for the threads.
+	 */
+	private static void run( String name, int readers, Workload workload ) throws InterruptedException {
+		AtomicBoolean running = new AtomicBoolean(true);
+		LongAdder reads = new LongAdder();
+		Thread[] threads = new Thread[readers + 1];
+
+		for (int t = 0; t < readers; t++) {
+			int seed = t;
+			threads[t] = new Thread(() -> {
+				int key = seed;
+				int sink = 0;
+				while (running.get()) {
+					sink += workload.read(key++);
+					reads.increment();
+				}
+				BenchmarkRunner.blackhole = sink;
+			});
+		}
+		threads[readers] = new Thread(() -> {
+			int key = 0;
+			while (running.get()) {
+				workload.write(key++);
+				LockSupport.parkNanos(100_000);
+			}
+		});
+
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		Thread.sleep(RUN_MILLIS);
+		running.set(false);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		System.out.printf("%-50s %12.0f reads/s%n", name + ", readers=" + readers, reads.sum() * 1000.0 / RUN_MILLIS);
+	}
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import implementations.MyDLL;
+
+/**
+ * Times indexed for-loops over a 100K-element <code>MyDLL</code>: a forward
+ * <code>get(i)</code> scan, a reverse scan, and <code>set</code> on the last thousand
+ * indexes. Index access starts from the nearest of the head, the tail and the last
+ * accessed node, so each scan is linear. Walking from the head every time made
+ * each scan quadratic.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class DLLIndexedLoopBenchmark
+{
+	private static final int COUNT = 100_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main( String[] args ) {
+		MyDLL<Integer> list = new MyDLL<>();
+		for (int i = 0; i < COUNT; i++) {
+			list.add(i);
+		}
+
+		BenchmarkRunner.measure("Forward get(i) loop, n=" + COUNT, () -> {
+			long sum = 0;
+			for (int i = 0; i < list.size(); i++) {
+				sum += list.get(i);
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+
+		BenchmarkRunner.measure("Reverse get(i) loop, n=" + COUNT, () -> {
+			long sum = 0;
+			for (int i = list.size() - 1; i >= 0; i--) {
+				sum += list.get(i);
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+
+		BenchmarkRunner.measure("set(i) on last 1000 indexes, n=" + COUNT, () -> {
+			for (int i = list.size() - 1000; i < list.size(); i++) {
+				list.set(i, i);
+			}
+			BenchmarkRunner.blackhole = list;
+		});
+	}
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import implementations.GapBufferList;
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import utilities.ListADT;
+
+/**
+ * Replays a recorded-style edit trace against each <code>ListADT</code>
+ * implementation. The trace keeps a cursor that drifts a few positions per
+ * step and inserts or removes at it, the pattern of an interactive editor.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class EditTraceBenchmark
+{
+	private static final int INITIAL_SIZE = 200_000;
+	private static final int STEPS = 20_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main( String[] args ) {
+		int[] trace = buildTrace();
+
+		replay("MyArrayList", MyArrayList::new, trace);
+		replay("MyDLL", MyDLL::new, trace);
+		replay("GapBufferList", GapBufferList::new, trace);
+	}
+
+	/**
+	 * Builds the trace as pairs of (operation, position), where 0 inserts and 1 removes.
+	 *
+	 * @return The trace.
+	 */
+	private static int[] buildTrace() {
+		Random random = new Random(304);
+		int[] trace = new int[STEPS * 2];
+		int size = INITIAL_SIZE;
+		int cursor = size / 3;
+
+		for (int i = 0; i < STEPS; i++) {
+			cursor = Math.max(0, Math.min(size - 1, cursor + random.nextInt(9) - 4));
+			boolean insert = random.nextInt(3) != 0; // Typing outpaces deleting
+			trace[2 * i] = insert ? 0 : 1;
+			trace[2 * i + 1] = cursor;
+			size += insert ? 1 : -1;
+		}
+		return trace;
+	}
+
+	/**
+	 * Times one implementation replaying the trace from a freshly filled list.
+	 *
+	 * @param name Name of the implementation.
+	 * @param factory Creates empty lists of the implementation.
+	 * @param trace The edit trace.
+	 */
+	private static void replay( String name, Supplier<ListADT<Integer>> factory, int[] trace ) {
+		BenchmarkRunner.measure(name + " edit trace, n=" + INITIAL_SIZE + ", steps=" + STEPS, () -> {
+			ListADT<Integer> list = factory.get();
+			for (int i = 0; i < INITIAL_SIZE; i++) {
+				list.add(i);
+			}
+			for (int i = 0; i < trace.length; i += 2) {
+				if (trace[i] == 0) {
+					list.add(trace[i + 1], i);
+				} else {
+					list.remove(trace[i + 1]);
+				}
+			}
+			BenchmarkRunner.blackhole = list;
+		});
+	}
+}
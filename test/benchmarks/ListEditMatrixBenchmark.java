@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.function.Supplier;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.TieredArrayList;
+import utilities.ListADT;
+
+/**
+ * Benchmark matrix of positional edits (insert then remove) at the front,
+ * middle and back of large lists, for each <code>ListADT</code> implementation.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class ListEditMatrixBenchmark
+{
+	private static final int[] SIZES = { 100_000, 1_000_000 };
+	private static final int EDITS = 1_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main( String[] args ) {
+		for (int n : SIZES) {
+			run("MyArrayList", MyArrayList::new, n);
+			run("MyDLL", MyDLL::new, n);
+			run("TieredArrayList", TieredArrayList::new, n);
+		}
+	}
+
+	/**
+	 * Times front, middle and back edits for one implementation.
+	 *
+	 * @param name Name of the implementation.
+	 * @param factory Creates empty lists of the implementation.
+	 * @param n Number of elements in the list before editing.
+	 */
+	private static void run( String name, Supplier<ListADT<Integer>> factory, int n ) {
+		ListADT<Integer> list = factory.get();
+		for (int i = 0; i < n; i++) {
+			list.add(i);
+		}
+
+		String[] positions = { "front", "middle", "back" };
+		for (String position : positions) {
+			BenchmarkRunner.measure(name + " " + position + " edits, n=" + n, () -> {
+				for (int i = 0; i < EDITS; i++) {
+					list.add(indexFor(position, list.size(), true), i);
+				}
+				for (int i = 0; i < EDITS; i++) {
+					list.remove(indexFor(position, list.size(), false));
+				}
+			});
+		}
+		BenchmarkRunner.blackhole = list;
+	}
+
+	/**
+	 * Returns the index to edit at.
+	 *
+	 * @param position One of front, middle or back.
+	 * @param size Current size of the list.
+	 * @param insert True for an insert, which may target size itself.
+	 * @return The index to edit.
+	 */
+	private static int indexFor( String position, int size, boolean insert ) {
+		switch (position) {
+		case "front":
+			return 0;
+		case "middle":
+			return size / 2;
+		default:
+			return insert ? size : size - 1;
+		}
+	}
+}
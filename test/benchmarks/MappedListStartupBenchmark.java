@@ -0,0 +1,73 @@
+package benchmarks;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import implementations.BinaryCodecs;
+import implementations.MappedList;
+import implementations.MyArrayList;
+
+/**
+ * Compares the startup cost of rebuilding a <code>MyArrayList</code> of strings from a text file,
+ * one line per element, with opening the same list saved as a <code>MappedList</code> file.
+ * Each round also reads the last element so the mapped list does some real work.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class MappedListStartupBenchmark
+{
+	private static final int COUNT = 2_000_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 * @throws IOException if the temporary files cannot be written.
+	 */
+	public static void main( String[] args ) throws IOException {
+		MyArrayList<String> source = new MyArrayList<>(COUNT);
+		for (int i = 0; i < COUNT; i++) {
+			source.add("element-" + i);
+		}
+
+		Path text = Files.createTempFile("startup", ".txt");
+		Path binary = Files.createTempFile("startup", ".bin");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(text, StandardCharsets.UTF_8)) {
+				for (int i = 0; i < COUNT; i++) {
+					writer.write(source.get(i));
+					writer.newLine();
+				}
+			}
+			MappedList.save(source, BinaryCodecs.STRING, binary);
+
+			BenchmarkRunner.measure("Rebuild MyArrayList from text, n=" + COUNT, () -> {
+				MyArrayList<String> list = new MyArrayList<>();
+				try (BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.UTF_8)) {
+					for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+						list.add(line);
+					}
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+				BenchmarkRunner.blackhole = list.get(list.size() - 1);
+			});
+
+			BenchmarkRunner.measure("Open MappedList, n=" + COUNT, () -> {
+				try (MappedList<String> list = MappedList.open(binary, BinaryCodecs.STRING)) {
+					BenchmarkRunner.blackhole = list.get(list.size() - 1);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			});
+		} finally {
+			Files.deleteIfExists(text);
+			Files.deleteIfExists(binary);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import implementations.StampedLockList;
+
+/**
+ * Throughput scaling of <code>StampedLockList</code> against
+ * <code>Collections.synchronizedList</code> from 1 to 32 threads, with 90/10
+ * and 50/50 read/write mixes. Reads are <code>get</code> and <code>size</code>
+ * calls, writes replace a random element so the size stays fixed.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class MixedReadWriteBenchmark
+{
+	private static final int LIST_SIZE = 10_000;
+	private static final int[] THREADS = { 1, 2, 4, 8, 16, 32 };
+	private static final int[] READ_PERCENT = { 90, 50 };
+	private static final long RUN_MILLIS = 1_000;
+
+	/**
+	 * One read or write against the list under test.
+	 */
+	private interface Operation {
+		/**
+		 * Performs the operation.
+		 *
+		 * @param index The element to touch.
+		 * @param write True for a write, false for a read.
+		 * @return A value derived from the operation so the work is not eliminated.
+		 */
+		int apply( int index, boolean write );
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 * @throws InterruptedException if interrupted while waiting for the threads.
+	 */
+	public static void main( String[] args ) throws InterruptedException {
+		StampedLockList<Integer> stamped = new StampedLockList<>();
+		List<Integer> synced = Collections.synchronizedList(new ArrayList<>());
+		for (int i = 0; i < LIST_SIZE; i++) {
+			stamped.add(i);
+			synced.add(i);
+		}
+
+		for (int readPercent : READ_PERCENT) {
+			for (int threads : THREADS) {
+				run("StampedLockList", threads, readPercent, (index, write) -> {
+					if (write) {
+						stamped.set(index, index);
+						return 0;
+					}
+					return stamped.get(index) + stamped.size();
+				});
+				run("Collections.synchronizedList", threads, readPercent, (index, write) -> {
+					if (write) {
+						synced.set(index, index);
+						return 0;
+					}
+					return synced.get(index) + synced.size();
+				});
+			}
+		}
+	}
+
+	/**
+	 * Runs the mix on several threads for a fixed time and prints operations per second.
+	 *
+	 * @param name Name of the list under test.
+	 * @param threads Number of worker threads.
+	 * @param readPercent Percentage of operations that are reads.
+	 * @param operation The read and write to run.
+	 * @throws InterruptedException if interrupted while waiting for the threads.
+	 */
+	private static void run( String name, int threads, int readPercent, Operation operation ) throws InterruptedException {
+		AtomicBoolean running = new AtomicBoolean(true);
+		LongAdder ops = new LongAdder();
+		Thread[] workers = new Thread[threads];
+
+		for (int t = 0; t < threads; t++) {
+			workers[t] = new Thread(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				int sink = 0;
+				while (running.get()) {
+					sink += operation.apply(random.nextInt(LIST_SIZE), random.nextInt(100) >= readPercent);
+					ops.increment();
+				}
+				BenchmarkRunner.blackhole = sink;
+			});
+			workers[t].start();
+		}
+		Thread.sleep(RUN_MILLIS);
+		running.set(false);
+		for (Thread worker : workers) {
+			worker.join();
+		}
+
+		System.out.printf("%-50s %12.0f ops/s%n", name + " " + readPercent + "/" + (100 - readPercent) + ", threads=" + threads,
+				ops.sum() * 1000.0 / RUN_MILLIS);
+	}
+}
@@ -0,0 +1,121 @@
+package benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import implementations.MyArrayList;
+import implementations.OffHeapRecordList;
+
+/**
+ * Compares heap use and garbage collection time for (tag id, line, offset) records held as
+ * objects in a <code>MyArrayList</code> against the same records in an <code>OffHeapRecordList</code>,
+ * then times a full scan of each.
+ *
+ * The record count defaults to 10 million and can be passed as the first argument; 100 million
+ * needs about 1.2 GB off-heap (raise <code>-XX:MaxDirectMemorySize</code> if required) and several
+ * GB of heap for the object baseline.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class OffHeapRecordBenchmark
+{
+	/**
+	 * Heap representation of one record, as the baseline.
+	 */
+	private static final class Tag {
+		final int id;
+		final int line;
+		final int offset;
+
+		Tag( int id, int line, int offset ) {
+			this.id = id;
+			this.line = line;
+			this.offset = offset;
+		}
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Optional record count.
+	 */
+	public static void main( String[] args ) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+		long before = usedHeap();
+		long gcBefore = gcMillis();
+		OffHeapRecordList records = new OffHeapRecordList(12);
+		OffHeapRecordList.Record r = records.newRecord();
+		for (int i = 0; i < count; i++) {
+			records.add(r).putInt(0, i).putInt(4, i >>> 4).putInt(8, i * 12);
+		}
+		report("OffHeapRecordList", count, usedHeap() - before, gcMillis() - gcBefore, records.reservedBytes());
+
+		BenchmarkRunner.measure("Scan OffHeapRecordList, n=" + count, () -> {
+			OffHeapRecordList.Record cursor = records.newRecord();
+			long sum = 0;
+			for (int i = 0; i < records.size(); i++) {
+				sum += records.get(i, cursor).getInt(4);
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+		records.free();
+
+		before = usedHeap();
+		gcBefore = gcMillis();
+		MyArrayList<Tag> objects = new MyArrayList<>();
+		for (int i = 0; i < count; i++) {
+			objects.add(new Tag(i, i >>> 4, i * 12));
+		}
+		report("MyArrayList<Tag>", count, usedHeap() - before, gcMillis() - gcBefore, 0);
+
+		BenchmarkRunner.measure("Scan MyArrayList<Tag>, n=" + count, () -> {
+			long sum = 0;
+			for (int i = 0; i < objects.size(); i++) {
+				sum += objects.get(i).line;
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+	}
+
+	/**
+	 * Returns the total time the JVM has spent collecting garbage.
+	 *
+	 * @return Collection time in milliseconds.
+	 */
+	private static long gcMillis() {
+		long total = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			total += Math.max(0, gc.getCollectionTime());
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the heap in use after asking the JVM to collect garbage.
+	 *
+	 * @return Used heap in bytes.
+	 */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Prints a footprint line for one representation.
+	 *
+	 * @param label Name of the representation.
+	 * @param count Number of records.
+	 * @param heapBytes Retained heap measured.
+	 * @param gcMillis Collection time spent while filling.
+	 * @param offHeapBytes Off-heap bytes reserved.
+	 */
+	private static void report( String label, int count, long heapBytes, long gcMillis, long offHeapBytes ) {
+		System.out.printf("%-20s heap %12d bytes (%.1f bytes/record), off-heap %12d bytes, GC while filling %d ms%n",
+			label, heapBytes, (double) heapBytes / count, offHeapBytes, gcMillis);
+	}
+}
@@ -0,0 +1,94 @@
+package benchmarks;
+
+import implementations.IntArrayList;
+import implementations.LongArrayList;
+import implementations.MyArrayList;
+
+/**
+ * Compares the retained heap of <code>MyArrayList&lt;Integer&gt;</code> with
+ * <code>IntArrayList</code> and <code>LongArrayList</code> holding the same
+ * values, and times a full scan of each.
+ *
+ * Values are spread past the <code>Integer</code> cache so every boxed element
+ * is its own object, as it is for real line numbers and offsets.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class PrimitiveListFootprintBenchmark
+{
+	private static final int COUNT = 1_000_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main( String[] args ) {
+		long before = usedHeap();
+		MyArrayList<Integer> boxed = new MyArrayList<>(COUNT);
+		for (int i = 0; i < COUNT; i++) {
+			boxed.add(i + 1024);
+		}
+		report("MyArrayList<Integer>", usedHeap() - before);
+
+		before = usedHeap();
+		IntArrayList ints = new IntArrayList(COUNT);
+		for (int i = 0; i < COUNT; i++) {
+			ints.add(i + 1024);
+		}
+		report("IntArrayList", usedHeap() - before);
+
+		before = usedHeap();
+		LongArrayList longs = new LongArrayList(COUNT);
+		for (int i = 0; i < COUNT; i++) {
+			longs.add(i + 1024L);
+		}
+		report("LongArrayList", usedHeap() - before);
+
+		BenchmarkRunner.measure("Sum MyArrayList<Integer>, n=" + COUNT, () -> {
+			long sum = 0;
+			for (int i = 0; i < boxed.size(); i++) {
+				sum += boxed.get(i);
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+		BenchmarkRunner.measure("Sum IntArrayList, n=" + COUNT, () -> {
+			long sum = 0;
+			for (int i = 0; i < ints.size(); i++) {
+				sum += ints.get(i);
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+		BenchmarkRunner.measure("Sum LongArrayList, n=" + COUNT, () -> {
+			long sum = 0;
+			for (int i = 0; i < longs.size(); i++) {
+				sum += longs.get(i);
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+	}
+
+	/**
+	 * Returns the heap in use after asking the JVM to collect garbage.
+	 *
+	 * @return Used heap in bytes.
+	 */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Prints a footprint line for one list.
+	 *
+	 * @param label Name of the list.
+	 * @param bytes Retained bytes measured for the list.
+	 */
+	private static void report( String label, long bytes ) {
+		System.out.printf("%-50s %12d bytes (%.1f bytes/element)%n", label, bytes, (double) bytes / COUNT);
+	}
+}
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import java.util.function.Supplier;
+
+import exceptions.EmptyQueueException;
+import implementations.IndexLinkedList;
+import implementations.MyDLL;
+import implementations.MyQueue;
+import utilities.ListADT;
+
+/**
+ * Measures heap bytes allocated per operation when lists are used as a queue under steady churn:
+ * a queue of fixed depth where each step dequeues from the head and enqueues at the tail.
+ * The elements are preallocated, so any allocation comes from the list itself.
+ * <code>MyDLL</code> is measured with and without its node pool, and <code>MyQueue</code>,
+ * which uses the pool, is measured through its own enqueue/dequeue as a one-element ping-pong.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class QueueChurnAllocationBenchmark
+{
+	private static final int DEPTH = 1_000;
+	private static final int STEPS = 1_000_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main( String[] args ) {
+		Integer[] values = new Integer[DEPTH];
+		for (int i = 0; i < DEPTH; i++) {
+			values[i] = i + 1024;
+		}
+
+		churn("MyDLL", MyDLL::new, values);
+		churn("MyDLL (pool 16)", () -> new MyDLL<>(16), values);
+		churn("IndexLinkedList", IndexLinkedList::new, values);
+		pingPong(values[0]);
+	}
+
+	/**
+	 * Measures enqueue then dequeue of one element on an otherwise empty <code>MyQueue</code>.
+	 *
+	 * @param value Element to pass through the queue.
+	 */
+	private static void pingPong( Integer value ) {
+		MyQueue<Integer> queue = new MyQueue<>();
+		Runnable task = () -> {
+			try {
+				for (int i = 0; i < STEPS; i++) {
+					queue.enqueue(value);
+					BenchmarkRunner.blackhole = queue.dequeue();
+				}
+			} catch (EmptyQueueException e) {
+				throw new IllegalStateException(e);
+			}
+		};
+		BenchmarkRunner.measureAllocation("MyQueue enqueue+dequeue", STEPS, task);
+		BenchmarkRunner.measure("MyQueue enqueue+dequeue, steps=" + STEPS, task);
+	}
+
+	/**
+	 * Fills a list to the queue depth and measures dequeue/enqueue steps on it.
+	 *
+	 * @param label Name of the list.
+	 * @param factory Creates an empty list.
+	 * @param values Elements to cycle through the queue.
+	 */
+	private static void churn( String label, Supplier<ListADT<Integer>> factory, Integer[] values ) {
+		ListADT<Integer> queue = factory.get();
+		for (Integer value : values) {
+			queue.add(value);
+		}
+
+		Runnable task = () -> {
+			for (int i = 0; i < STEPS; i++) {
+				queue.add(queue.remove(0));
+			}
+			BenchmarkRunner.blackhole = queue;
+		};
+		BenchmarkRunner.measureAllocation(label + " dequeue+enqueue", STEPS, task);
+		BenchmarkRunner.measure(label + " dequeue+enqueue, steps=" + STEPS, task);
+	}
+}
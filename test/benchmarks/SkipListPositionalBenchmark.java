@@ -0,0 +1,101 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import implementations.IndexableSkipList;
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Times random positional edits and reads on a 200K-element list: inserts and
+ * removes at random indexes, then random <code>get(i)</code>. <code>MyArrayList</code>
+ * shifts half the array per edit and <code>MyDLL</code> walks half the nodes,
+ * while <code>IndexableSkipList</code> adds up link widths in O(log n). A full
+ * iterator pass is timed as well, since the skip list walks plain level-0 links.
+ *
+ * Each list type is measured in its own JVM, for the same reason as in
+ * <code>UnrolledTraversalBenchmark</code>. Pass a list name to measure just that one in-process.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class SkipListPositionalBenchmark
+{
+	private static final int COUNT = 200_000;
+	private static final int OPERATIONS = 2_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Optional list name: array, dll or skip. With none, each is run in a child JVM.
+	 * @throws IOException if a child JVM cannot be started.
+	 * @throws InterruptedException if interrupted while waiting for a child JVM.
+	 */
+	public static void main( String[] args ) throws IOException, InterruptedException {
+		if (args.length == 0) {
+			String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+			for (String name : new String[] { "array", "dll", "skip" }) {
+				new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), SkipListPositionalBenchmark.class.getName(), name)
+					.inheritIO().start().waitFor();
+			}
+			return;
+		}
+
+		switch (args[0]) {
+			case "array":
+				run("MyArrayList", new MyArrayList<>());
+				break;
+			case "dll":
+				run("MyDLL", new MyDLL<>());
+				break;
+			case "skip":
+				run("IndexableSkipList", new IndexableSkipList<>());
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown list: " + args[0]);
+		}
+	}
+
+	/**
+	 * Fills a list and times its positional edits, reads and iteration.
+	 *
+	 * @param label The name of the list type.
+	 * @param list The empty list to fill.
+	 */
+	private static void run( String label, ListADT<Integer> list ) {
+		for (int i = 0; i < COUNT; i++) {
+			list.add(i);
+		}
+
+		BenchmarkRunner.measure(label + " random add/remove x" + OPERATIONS + ", n=" + COUNT, () -> {
+			Random random = new Random(304);
+			for (int i = 0; i < OPERATIONS; i++) {
+				list.add(random.nextInt(list.size() + 1), i);
+				list.remove(random.nextInt(list.size()));
+			}
+			BenchmarkRunner.blackhole = list;
+		});
+
+		BenchmarkRunner.measure(label + " random get x" + OPERATIONS + ", n=" + COUNT, () -> {
+			Random random = new Random(304);
+			long sum = 0;
+			for (int i = 0; i < OPERATIONS; i++) {
+				sum += list.get(random.nextInt(list.size()));
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+
+		BenchmarkRunner.measure(label + " iterator pass, n=" + COUNT, () -> {
+			long sum = 0;
+			Iterator<Integer> it = list.iterator();
+			while (it.hasNext()) {
+				sum += it.next();
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+	}
+}
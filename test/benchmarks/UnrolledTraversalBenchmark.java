@@ -0,0 +1,111 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.UnrolledLinkedList;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Compares <code>UnrolledLinkedList</code> with <code>MyDLL</code> and <code>MyArrayList</code>:
+ * retained bytes per element (the elements themselves are shared and not counted), and the time of
+ * full scans through <code>contains</code> of a missing element, <code>toArray</code> and the iterator.
+ *
+ * Each list type is measured in its own JVM, as JMH forks do. The scans call through the shared
+ * <code>ListADT</code> interface, and in one JVM the list measured last would pay for the call sites the
+ * earlier lists had already made polymorphic. Pass a list name to measure just that one in-process.
+ *
+ * @author TerrellAW
+ * @version 19-11-2025
+ */
+public class UnrolledTraversalBenchmark
+{
+	private static final int COUNT = 1_000_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 *
+	 * @param args Optional list name: array, dll or unrolled. With none, each is run in a child JVM.
+	 * @throws IOException if a child JVM cannot be started.
+	 * @throws InterruptedException if interrupted while waiting for a child JVM.
+	 */
+	public static void main( String[] args ) throws IOException, InterruptedException {
+		if (args.length == 0) {
+			String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+			for (String name : new String[] { "array", "dll", "unrolled" }) {
+				new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), UnrolledTraversalBenchmark.class.getName(), name)
+					.inheritIO().start().waitFor();
+			}
+			return;
+		}
+
+		Integer[] values = new Integer[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			values[i] = i + 1024; // Past the Integer cache, allocated before measuring
+		}
+
+		switch (args[0]) {
+			case "array":
+				run("MyArrayList", MyArrayList::new, values);
+				break;
+			case "dll":
+				run("MyDLL", MyDLL::new, values);
+				break;
+			case "unrolled":
+				run("UnrolledLinkedList", UnrolledLinkedList::new, values);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown list: " + args[0]);
+		}
+	}
+
+	/**
+	 * Measures the footprint and scan times of one list type.
+	 *
+	 * @param label Name of the list.
+	 * @param factory Creates an empty list.
+	 * @param values Elements to add.
+	 */
+	private static void run( String label, Supplier<ListADT<Integer>> factory, Integer[] values ) {
+		long before = usedHeap();
+		ListADT<Integer> list = factory.get();
+		for (Integer value : values) {
+			list.add(value);
+		}
+		long bytes = usedHeap() - before;
+		System.out.printf("%-50s %12d bytes (%.1f bytes/element)%n", label + " footprint", bytes, (double) bytes / COUNT);
+
+		Integer missing = -1;
+		BenchmarkRunner.measure(label + " contains(missing), n=" + COUNT, () -> {
+			BenchmarkRunner.blackhole = list.contains(missing);
+		});
+		BenchmarkRunner.measure(label + " toArray, n=" + COUNT, () -> {
+			BenchmarkRunner.blackhole = list.toArray();
+		});
+		BenchmarkRunner.measure(label + " iterator sum, n=" + COUNT, () -> {
+			long sum = 0;
+			Iterator<Integer> it = list.iterator();
+			while (it.hasNext()) {
+				sum += it.next();
+			}
+			BenchmarkRunner.blackhole = sum;
+		});
+	}
+
+	/**
+	 * Returns the heap in use after asking the JVM to collect garbage.
+	 *
+	 * @return Used heap in bytes.
+	 */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -1299,4 +1299,461 @@ public class ArrayListTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * to create an empty list with an initial capacity.
+	 */
+	@Test
+	public void testConstructorCapacity()
+	{
+		MyArrayList<Integer> sized = new MyArrayList<>( 100 );
+		assertEquals( "Failed to return correct size", 0, sized.size() );
+		assertTrue( "Failed to be empty.", sized.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * to throw IllegalArgumentException for a negative capacity.
+	 */
+	@Test
+	public void testConstructorCapacity_IllegalArgumentException()
+	{
+		try
+		{
+			new MyArrayList<Integer>( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#add(java.lang.Object)}
+	 * to add many items past the initial capacity.
+	 */
+	@Test
+	public void testAddE_PastCapacity()
+	{
+		MyArrayList<Integer> sized = new MyArrayList<>( 2 );
+		for( int i = 0; i < 1000; i++ )
+		{
+			sized.add( i );
+		}
+		assertEquals( "Failed to return correct size.", 1000, sized.size() );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to return correct element.", Integer.valueOf( i ), sized.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#ensureCapacity(int)}
+	 * to leave the contents of the list unchanged.
+	 */
+	@Test
+	public void testEnsureCapacity()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.ensureCapacity( 500 );
+		assertEquals( "Failed to return correct size.", 2, myList.size() );
+		assertEquals( "Failed to return correct element.", one, myList.get( 0 ) );
+		assertEquals( "Failed to return correct element.", two, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#trimToSize()}
+	 * to leave the contents of the list unchanged and allow further adds.
+	 */
+	@Test
+	public void testTrimToSize()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.trimToSize();
+		assertEquals( "Failed to return correct size.", 3, myList.size() );
+		myList.add( four );
+		Object[] expected = { one, two, three, four };
+		assertArrayEquals( "Failed to keep items after trimming.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#get(int)}
+	 * to throw IndexOutOfBoundsException for an index inside the capacity but past the size.
+	 */
+	@Test
+	public void testGet_IndexOutOfBoundsException_PastSize()
+	{
+		MyArrayList<Integer> sized = new MyArrayList<>( 10 );
+		sized.add( one );
+		try
+		{
+			sized.get( 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#add(int, java.lang.Object)} and
+	 * {@link implementations.MyArrayList#remove(int)}
+	 * to shift items correctly when editing the middle of a list repeatedly.
+	 */
+	@Test
+	public void testAddRemove_MiddleShifts()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( 50, -i );
+		}
+		for( int i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to remove correct item.", Integer.valueOf( -49 + i ), myList.remove( 50 ) );
+		}
+		assertEquals( "Failed to return correct size.", 100, myList.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to keep items in order.", Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#remove(int)}
+	 * to throw IndexOutOfBoundsException when the index equals the size.
+	 */
+	@Test
+	public void testRemoveInt_IndexOutOfBoundsException_Size()
+	{
+		myList.add( one );
+		myList.add( two );
+		try
+		{
+			myList.remove( 2 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#iterator()}
+	 * to throw ConcurrentModificationException when the list is modified during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		myList.add( one );
+		myList.add( two );
+		Iterator<Integer> it = myList.iterator();
+		it.next();
+		myList.add( three );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#iterator()}
+	 * to keep iterating when an item is replaced with set, which is not a structural change.
+	 */
+	@Test
+	public void testIterator_SetDuringIteration()
+	{
+		myList.add( one );
+		myList.add( two );
+		Iterator<Integer> it = myList.iterator();
+		it.next();
+		myList.set( 1, five );
+		assertEquals( "Failed to return replaced item.", five, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to add a list to itself.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.addAll( myList );
+		Object[] expected = { one, two, one, two };
+		assertArrayEquals( "Failed to add list to itself.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert the items of an array list into the middle of the list.
+	 */
+	@Test
+	public void testAddAllInt_ArrayList()
+	{
+		MyArrayList<Integer> intArray = new MyArrayList<>();
+		intArray.add( two );
+		intArray.add( three );
+		intArray.add( four );
+
+		myList.add( one );
+		myList.add( five );
+
+		boolean actualReturn = myList.addAll( 1, intArray );
+		assertTrue( "Failed to return true.", actualReturn );
+
+		Object[] expected = { one, two, three, four, five };
+		assertArrayEquals( "Failed to insert items at the correct position.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert the items of a linked list at the front of the list.
+	 */
+	@Test
+	public void testAddAllInt_DLL()
+	{
+		MyDLL<Integer> intList = new MyDLL<>();
+		intList.add( one );
+		intList.add( two );
+
+		myList.add( three );
+		myList.add( four );
+
+		myList.addAll( 0, intList );
+
+		Object[] expected = { one, two, three, four };
+		assertArrayEquals( "Failed to insert items at the correct position.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert a list into the middle of itself.
+	 */
+	@Test
+	public void testAddAllInt_Self()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.addAll( 1, myList );
+		Object[] expected = { one, one, two, two };
+		assertArrayEquals( "Failed to insert list into itself.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to throw IndexOutOfBoundsException for an index past the size.
+	 */
+	@Test
+	public void testAddAllInt_IndexOutOfBoundsException()
+	{
+		MyArrayList<Integer> intArray = new MyArrayList<>();
+		intArray.add( one );
+		try
+		{
+			myList.addAll( 1, intArray );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#sort(java.util.Comparator)}
+	 * to sort a list of shuffled items into ascending order.
+	 */
+	@Test
+	public void testSort()
+	{
+		java.util.Random random = new java.util.Random( 304 );
+		Integer[] expected = new Integer[1000];
+		for( int i = 0; i < 1000; i++ )
+		{
+			expected[i] = random.nextInt( 100 );
+			myList.add( expected[i] );
+		}
+		java.util.Arrays.sort( expected );
+		myList.sort( java.util.Comparator.naturalOrder() );
+		assertArrayEquals( "Failed to sort list.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#sort(java.util.Comparator)}
+	 * to keep equal items in their original order.
+	 */
+	@Test
+	public void testSort_Stable()
+	{
+		MyArrayList<String> words = new MyArrayList<>();
+		String[] input = { "bb", "a", "cc", "d", "ee", "f" };
+		for( String word : input )
+		{
+			words.add( word );
+		}
+		words.sort( java.util.Comparator.comparingInt( String::length ) );
+		Object[] expected = { "a", "d", "f", "bb", "cc", "ee" };
+		assertArrayEquals( "Failed to keep equal items in order.", expected, words.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#parallelSort(java.util.Comparator)}
+	 * to sort a list large enough to be split across threads, keeping equal items in order.
+	 */
+	@Test
+	public void testParallelSort()
+	{
+		java.util.Random random = new java.util.Random( 304 );
+		MyArrayList<int[]> pairs = new MyArrayList<>();
+		for( int i = 0; i < 100000; i++ )
+		{
+			pairs.add( new int[] { random.nextInt( 1000 ), i } );
+		}
+		pairs.parallelSort( java.util.Comparator.comparingInt( pair -> pair[0] ) );
+		for( int i = 1; i < pairs.size(); i++ )
+		{
+			int[] previous = pairs.get( i - 1 );
+			int[] current = pairs.get( i );
+			assertTrue( "Failed to sort list.", previous[0] <= current[0] );
+			if( previous[0] == current[0] )
+			{
+				assertTrue( "Failed to keep equal items in order.", previous[1] < current[1] );
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to read and write through to the backing list.
+	 */
+	@Test
+	public void testSubList()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		utilities.ListADT<Integer> view = myList.subList( 3, 7 );
+		assertEquals( "Failed to size view.", 4, view.size() );
+		assertEquals( "Failed to read through view.", Integer.valueOf( 3 ), view.get( 0 ) );
+		view.set( 1, 40 );
+		assertEquals( "Failed to write through view.", Integer.valueOf( 40 ), myList.get( 4 ) );
+		view.add( 0, 99 );
+		assertEquals( "Failed to remove through view.", Integer.valueOf( 6 ), view.remove( 4 ) );
+		Object[] expectedView = { 99, 3, 40, 5 };
+		assertArrayEquals( "Failed to edit view.", expectedView, view.toArray() );
+		Object[] expectedList = { 0, 1, 2, 99, 3, 40, 5, 7, 8, 9 };
+		assertArrayEquals( "Failed to edit backing list.", expectedList, myList.toArray() );
+		view.clear();
+		Object[] cleared = { 0, 1, 2, 7, 8, 9 };
+		assertArrayEquals( "Failed to clear range.", cleared, myList.toArray() );
+		assertTrue( "Failed to empty view.", view.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to throw an exception when the backing list changed outside the view.
+	 */
+	@Test
+	public void testSubList_ConcurrentModificationException()
+	{
+		myList.add( one );
+		myList.add( two );
+		utilities.ListADT<Integer> view = myList.subList( 0, 1 );
+		myList.add( three );
+		try
+		{
+			view.get( 0 );
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch ( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeRange(int, int)}
+	 * to remove a range and shift the rest left.
+	 */
+	@Test
+	public void testRemoveRange()
+	{
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( i );
+		}
+		myList.removeRange( 2, 5 );
+		Object[] expected = { 0, 1, 5, 6, 7 };
+		assertArrayEquals( "Failed to remove range.", expected, myList.toArray() );
+		try
+		{
+			myList.removeRange( 3, 6 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch ( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeIf(java.util.function.Predicate)}
+	 * to remove every matching item and keep the rest in order.
+	 */
+	@Test
+	public void testRemoveIf()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		assertTrue( "Failed to report removal.", myList.removeIf( value -> value % 3 != 0 ) );
+		assertEquals( "Failed to remove matching items.", 334, myList.size() );
+		for( int i = 0; i < myList.size(); i++ )
+		{
+			assertEquals( "Failed to keep order.", Integer.valueOf( i * 3 ), myList.get( i ) );
+		}
+		assertFalse( "Failed to report no removal.", myList.removeIf( value -> value < 0 ) );
+	}
 }
@@ -0,0 +1,148 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.CopyOnWriteList;
+import implementations.MyArrayList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the copy-on-write thread-safe implementation of the ListADT.
+ */
+public class CopyOnWriteListTest
+{
+	// Attributes
+	private CopyOnWriteList<Integer> myList;
+
+	/**
+	 * Initializes a new CopyOnWriteList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new CopyOnWriteList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.CopyOnWriteList#add(int, java.lang.Object)},
+	 * {@link implementations.CopyOnWriteList#remove(int)} and
+	 * {@link implementations.CopyOnWriteList#set(int, java.lang.Object)}
+	 * to edit the list like any other ListADT.
+	 */
+	@Test
+	public void testEdits()
+	{
+		myList.add( 1 );
+		myList.add( 3 );
+		myList.add( 1, 2 );
+		myList.add( 0, 0 );
+		assertEquals( "Failed to remove item.", Integer.valueOf( 3 ), myList.remove( 3 ) );
+		assertEquals( "Failed to replace item.", Integer.valueOf( 2 ), myList.set( 2, 5 ) );
+		assertEquals( "Failed to remove item by value.", Integer.valueOf( 0 ), myList.remove( Integer.valueOf( 0 ) ) );
+		Object[] expected = { 1, 5 };
+		assertArrayEquals( "Failed to edit list.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.CopyOnWriteList#iterator()}
+	 * to keep walking the snapshot it started with when the list changes.
+	 */
+	@Test
+	public void testIterator_Snapshot()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		Iterator<Integer> it = myList.iterator();
+		myList.clear();
+		myList.add( 9 );
+		assertEquals( "Failed to return snapshot item.", Integer.valueOf( 1 ), it.next() );
+		assertEquals( "Failed to return snapshot item.", Integer.valueOf( 2 ), it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.CopyOnWriteList#toArray()}
+	 * to return a copy that does not change the list when written to.
+	 */
+	@Test
+	public void testToArray_Copy()
+	{
+		myList.add( 1 );
+		Object[] array = myList.toArray();
+		array[0] = 7;
+		assertEquals( "Failed to protect list from array writes.", Integer.valueOf( 1 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.CopyOnWriteList#add(java.lang.Object)}
+	 * to keep every add when several threads write while another reads.
+	 * @throws InterruptedException if interrupted while waiting for the threads.
+	 */
+	@Test
+	public void testConcurrentAdds() throws InterruptedException
+	{
+		Thread[] writers = new Thread[4];
+		for( int t = 0; t < writers.length; t++ )
+		{
+			writers[t] = new Thread( () -> {
+				for( int i = 0; i < 500; i++ )
+				{
+					myList.add( i );
+				}
+			} );
+			writers[t].start();
+		}
+		Thread reader = new Thread( () -> {
+			for( int i = 0; i < 1000; i++ )
+			{
+				int size = myList.size();
+				Object[] snapshot = myList.toArray();
+				assertTrue( "Failed to publish a consistent snapshot.", snapshot.length >= size );
+			}
+		} );
+		reader.start();
+		for( Thread writer : writers )
+		{
+			writer.join();
+		}
+		reader.join();
+		assertEquals( "Failed to keep every add.", 2000, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.CopyOnWriteList#addAll(utilities.ListADT)}
+	 * to append all items of another list, including itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyArrayList<Integer> other = new MyArrayList<>();
+		other.add( 1 );
+		other.add( 2 );
+		myList.addAll( other );
+		myList.addAll( myList );
+		Object[] expected = { 1, 2, 1, 2 };
+		assertArrayEquals( "Failed to add items.", expected, myList.toArray() );
+	}
+}
@@ -2,6 +2,7 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.lang.reflect.Field;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
@@ -10,6 +11,7 @@ import org.junit.Test;
 
 import implementations.MyArrayList;
 import implementations.MyDLL;
+import implementations.MyDLLNode;
 import utilities.Iterator;
 
 /**
@@ -1325,4 +1327,484 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(utilities.ListADT)}
+	 * to add a list to itself.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.addAll( myList );
+		Object[] expected = { one, two, one, two };
+		assertArrayEquals( "Failed to add list to itself.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#get(int)},
+	 * {@link implementations.MyDLL#set(int, java.lang.Object)},
+	 * {@link implementations.MyDLL#add(int, java.lang.Object)} and
+	 * {@link implementations.MyDLL#remove(int)}
+	 * to agree with a MyArrayList under random indexed edits, so walks from the
+	 * head, the tail and the last accessed node all land on the right node.
+	 */
+	@Test
+	public void testIndexedEdits_Random()
+	{
+		java.util.Random random = new java.util.Random( 304 );
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		for( int i = 0; i < 200; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+		}
+		for( int i = 0; i < 5000; i++ )
+		{
+			int index = random.nextInt( expected.size() );
+			switch( random.nextInt( 4 ) )
+			{
+				case 0:
+					assertEquals( "Failed to get item.", expected.get( index ), myList.get( index ) );
+					break;
+				case 1:
+					assertEquals( "Failed to set item.", expected.set( index, i ), myList.set( index, i ) );
+					break;
+				case 2:
+					expected.add( index, i );
+					myList.add( index, i );
+					break;
+				default:
+					assertEquals( "Failed to remove item.", expected.remove( index ), myList.remove( index ) );
+					expected.add( i );
+					myList.add( i );
+					break;
+			}
+		}
+		assertArrayEquals( "Failed to keep list in step.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#get(int)}
+	 * to read every item in order and in reverse after removing by value.
+	 */
+	@Test
+	public void testGet_Sequential()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		myList.get( 60 );
+		myList.remove( Integer.valueOf( 10 ) );
+		for( int i = 0; i < 99; i++ )
+		{
+			assertEquals( "Failed to read in order.", Integer.valueOf( i < 10 ? i : i + 1 ), myList.get( i ) );
+		}
+		for( int i = 98; i >= 0; i-- )
+		{
+			assertEquals( "Failed to read in reverse.", Integer.valueOf( i < 10 ? i : i + 1 ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#iterator()}
+	 * to give nested iterations their own independent cursors.
+	 */
+	@Test
+	public void testIterator_Nested()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		int pairs = 0;
+		Iterator<Integer> outer = myList.iterator();
+		while( outer.hasNext() )
+		{
+			outer.next();
+			Iterator<Integer> inner = myList.iterator();
+			while( inner.hasNext() )
+			{
+				inner.next();
+				pairs++;
+			}
+		}
+		assertEquals( "Failed to iterate independently.", 9, pairs );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#iterator()}
+	 * to throw an exception when the list changes during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		myList.add( one );
+		myList.add( two );
+		Iterator<Integer> it = myList.iterator();
+		it.next();
+		myList.remove( 0 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch ( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to remove, replace and insert items at the cursor while walking the list.
+	 */
+	@Test
+	public void testListIterator_Edits()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		utilities.ListIterator<Integer> it = myList.listIterator();
+		while( it.hasNext() )
+		{
+			int value = it.next();
+			if( value % 2 == 1 )
+			{
+				it.remove();
+			}
+			else if( value == 4 )
+			{
+				it.set( 40 );
+				it.add( 41 );
+			}
+		}
+		Object[] expected = { 0, 2, 40, 41, 6, 8 };
+		assertArrayEquals( "Failed to edit at the cursor.", expected, myList.toArray() );
+		assertEquals( "Failed to keep size.", 6, myList.size() );
+		assertEquals( "Failed to track index.", 6, it.nextIndex() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator(int)}
+	 * to walk backwards from an index and remove items on the way.
+	 */
+	@Test
+	public void testListIterator_Previous()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+		utilities.ListIterator<Integer> it = myList.listIterator( 5 );
+		assertFalse( "Failed to start at the end.", it.hasNext() );
+		assertEquals( "Failed to step back.", Integer.valueOf( 4 ), it.previous() );
+		assertEquals( "Failed to step back.", Integer.valueOf( 3 ), it.previous() );
+		it.remove();
+		assertEquals( "Failed to keep cursor index.", 3, it.nextIndex() );
+		assertEquals( "Failed to step forward after remove.", Integer.valueOf( 4 ), it.next() );
+		it.previous();
+		it.previous();
+		it.add( 9 );
+		assertEquals( "Failed to step back past insert.", Integer.valueOf( 9 ), it.previous() );
+		Object[] expected = { 0, 1, 9, 2, 4 };
+		assertArrayEquals( "Failed to edit walking backwards.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to throw an exception when removing twice without moving.
+	 */
+	@Test
+	public void testListIterator_RemoveTwice()
+	{
+		myList.add( one );
+		utilities.ListIterator<Integer> it = myList.listIterator();
+		it.next();
+		it.remove();
+		try
+		{
+			it.remove();
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch ( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#insertBefore(implementations.MyDLLNode, java.lang.Object)},
+	 * {@link implementations.MyDLL#insertAfter(implementations.MyDLLNode, java.lang.Object)} and
+	 * {@link implementations.MyDLL#removeNode(implementations.MyDLLNode)}
+	 * to edit around node handles.
+	 */
+	@Test
+	public void testNodeHandles()
+	{
+		MyDLLNode<Integer> middle = myList.addNode( three );
+		MyDLLNode<Integer> first = myList.addFirstNode( one );
+		myList.insertBefore( middle, two );
+		MyDLLNode<Integer> last = myList.insertAfter( middle, five );
+		myList.insertBefore( last, four );
+		Object[] expected = { one, two, three, four, five };
+		assertArrayEquals( "Failed to insert around handles.", expected, myList.toArray() );
+		assertEquals( "Failed to remove node.", three, myList.removeNode( middle ) );
+		assertEquals( "Failed to remove head node.", one, myList.removeNode( first ) );
+		assertEquals( "Failed to remove tail node.", five, myList.removeNode( last ) );
+		Object[] remaining = { two, four };
+		assertArrayEquals( "Failed to unlink nodes.", remaining, myList.toArray() );
+		assertEquals( "Failed to update size.", 2, myList.size() );
+		assertEquals( "Failed to update tail.", four, myList.getTail().getElement() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeNode(implementations.MyDLLNode)}
+	 * to throw an exception for a node that was already removed.
+	 */
+	@Test
+	public void testRemoveNode_Removed()
+	{
+		MyDLLNode<Integer> node = myList.addNode( one );
+		myList.add( two );
+		myList.removeNode( node );
+		try
+		{
+			myList.removeNode( node );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch ( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to keep size.", 1, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#moveToFront(implementations.MyDLLNode)}
+	 * to reorder an LRU list by moving used nodes to the front.
+	 */
+	@Test
+	public void testMoveToFront()
+	{
+		MyDLLNode<Integer> nodeOne = myList.addNode( one );
+		myList.addNode( two );
+		MyDLLNode<Integer> nodeThree = myList.addNode( three );
+		myList.moveToFront( nodeThree );
+		myList.moveToFront( nodeOne );
+		myList.moveToFront( nodeOne );
+		Object[] expected = { one, three, two };
+		assertArrayEquals( "Failed to move nodes to front.", expected, myList.toArray() );
+		assertEquals( "Failed to update tail.", two, myList.getTail().getElement() );
+		assertEquals( "Failed to read by index after move.", three, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#moveToBack(implementations.MyDLLNode)}
+	 * to relink existing nodes at the tail without changing the others' order.
+	 */
+	@Test
+	public void testMoveToBack()
+	{
+		MyDLLNode<Integer> nodeOne = myList.addNode( one );
+		myList.addNode( two );
+		MyDLLNode<Integer> nodeThree = myList.addNode( three );
+		myList.moveToBack( nodeOne );
+		myList.moveToBack( nodeThree );
+		myList.moveToBack( nodeThree );
+		Object[] expected = { two, one, three };
+		assertArrayEquals( "Failed to move nodes to back.", expected, myList.toArray() );
+		assertEquals( "Failed to update head.", two, myList.getHead().getElement() );
+		assertEquals( "Failed to read by index after move.", one, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#splice(implementations.MyDLL)}
+	 * to move another list onto the end and leave it empty.
+	 */
+	@Test
+	public void testSplice()
+	{
+		myList.add( one );
+		myList.add( two );
+		MyDLL<Integer> other = new MyDLL<>();
+		other.add( three );
+		MyDLLNode<Integer> handle = other.addNode( four );
+		myList.splice( other );
+		myList.splice( new MyDLL<Integer>() );
+		Object[] expected = { one, two, three, four };
+		assertArrayEquals( "Failed to splice lists.", expected, myList.toArray() );
+		assertEquals( "Failed to update size.", 4, myList.size() );
+		assertTrue( "Failed to empty donor.", other.isEmpty() );
+		assertEquals( "Failed to adopt donor handle.", four, myList.removeNode( handle ) );
+		other.splice( myList );
+		assertArrayEquals( "Failed to splice into empty list.", new Object[] { one, two, three }, other.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#splitAt(int)}
+	 * to return the tail half and keep the front half, including at both ends.
+	 */
+	@Test
+	public void testSplitAt_Index()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		MyDLL<Integer> rest = myList.splitAt( 6 );
+		assertArrayEquals( "Failed to keep front half.", new Object[] { 0, 1, 2, 3, 4, 5 }, myList.toArray() );
+		assertArrayEquals( "Failed to return tail half.", new Object[] { 6, 7, 8, 9 }, rest.toArray() );
+		assertEquals( "Failed to size tail half.", 4, rest.size() );
+		assertTrue( "Failed to split at end.", myList.splitAt( 6 ).isEmpty() );
+		MyDLL<Integer> all = myList.splitAt( 0 );
+		assertTrue( "Failed to split at start.", myList.isEmpty() );
+		assertEquals( "Failed to move everything.", 6, all.size() );
+		myList.add( 99 );
+		assertArrayEquals( "Failed to reuse emptied list.", new Object[] { 99 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#splitAt(implementations.MyDLLNode)}
+	 * to size both halves correctly whichever end is closer to the handle.
+	 */
+	@Test
+	public void testSplitAt_Handle()
+	{
+		for( int split = 0; split < 9; split++ )
+		{
+			myList = new MyDLL<>();
+			MyDLLNode<Integer> at = null;
+			for( int i = 0; i < 9; i++ )
+			{
+				MyDLLNode<Integer> node = myList.addNode( i );
+				if( i == split )
+				{
+					at = node;
+				}
+			}
+			MyDLL<Integer> rest = myList.splitAt( at );
+			assertEquals( "Failed to size front half.", split, myList.size() );
+			assertEquals( "Failed to size tail half.", 9 - split, rest.size() );
+			assertEquals( "Failed to start tail half.", Integer.valueOf( split ), rest.get( 0 ) );
+			assertEquals( "Failed to end tail half.", Integer.valueOf( 8 ), rest.get( rest.size() - 1 ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#MyDLL(int)}
+	 * to keep first-in, first-out order while removed nodes are recycled for later adds.
+	 */
+	@Test
+	public void testNodePool_QueueChurn()
+	{
+		myList = new MyDLL<>( 2 );
+		MyArrayList<Integer> plain = new MyArrayList<>();
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+			plain.add( i );
+		}
+		for( int i = 5; i < 1000; i++ )
+		{
+			assertEquals( "Failed to dequeue in order.", plain.remove( 0 ), myList.remove( 0 ) );
+			myList.add( i );
+			plain.add( i );
+			if( i % 7 == 0 )
+			{
+				assertEquals( "Failed to remove by element.", plain.remove( Integer.valueOf( i ) ), myList.remove( Integer.valueOf( i ) ) );
+				myList.add( 2, i );
+				plain.add( 2, i );
+			}
+		}
+		assertArrayEquals( "Failed to keep same items.", plain.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addNode(java.lang.Object)} and
+	 * {@link implementations.MyDLL#removeNode(implementations.MyDLLNode)}
+	 * to never recycle a node handed out as a handle, even when it is removed by index.
+	 */
+	@Test
+	public void testNodePool_HandlesNeverRecycled()
+	{
+		myList = new MyDLL<>( 4 );
+		MyDLLNode<Integer> stale = myList.addNode( one );
+		MyDLLNode<Integer> kept = myList.insertAfter( stale, two );
+		assertEquals( "Failed to remove by index.", one, myList.remove( 0 ) );
+		myList.add( three );
+		assertEquals( "Failed to leave removed handle's element.", one, stale.getElement() );
+		try
+		{
+			myList.removeNode( stale );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch ( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to remove by element.", two, myList.remove( two ) );
+		myList.add( four );
+		assertEquals( "Failed to leave removed handle's element.", two, kept.getElement() );
+		assertArrayEquals( "Failed to keep other items.", new Object[] { three, four }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to copy a pooled list without turning off its node recycling.
+	 * @throws Exception if the pool count cannot be read
+	 */
+	@Test
+	public void testNodePool_CopyKeepsRecycling() throws Exception
+	{
+		myList = new MyDLL<>( 4 );
+		myList.add( one );
+		myList.add( two );
+		MyArrayList<Integer> copy = new MyArrayList<>();
+		copy.addAll( myList );
+		assertArrayEquals( "Failed to copy items.", new Object[] { one, two }, copy.toArray() );
+		myList.remove( 0 );
+		Field pooled = MyDLL.class.getDeclaredField( "pooled" );
+		pooled.setAccessible( true );
+		assertEquals( "Failed to recycle removed node after copy.", 1, pooled.getInt( myList ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#MyDLL(int)}
+	 * to throw an exception for a negative pool limit.
+	 */
+	@Test
+	public void testNodePool_NegativeLimit()
+	{
+		try
+		{
+			new MyDLL<Integer>( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch ( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
 }
@@ -0,0 +1,211 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.GapBufferList;
+import implementations.MyArrayList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the gap buffer implementation of the ListADT.
+ */
+public class GapBufferListTest
+{
+	// Attributes
+	private GapBufferList<Integer> myList;
+
+	/**
+	 * Initializes a new GapBufferList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new GapBufferList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GapBufferList#insert(java.lang.Object)}
+	 * to insert at the cursor and advance it.
+	 */
+	@Test
+	public void testInsert()
+	{
+		myList.insert( 1 );
+		myList.insert( 3 );
+		myList.moveCursor( 1 );
+		myList.insert( 2 );
+		assertEquals( "Failed to advance cursor.", 2, myList.getCursor() );
+		Object[] expected = { 1, 2, 3 };
+		assertArrayEquals( "Failed to insert at cursor.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GapBufferList#deleteBefore()} and
+	 * {@link implementations.GapBufferList#deleteAfter()}
+	 * to remove the items on either side of the cursor.
+	 */
+	@Test
+	public void testDelete()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.insert( i );
+		}
+		myList.moveCursor( 2 );
+		assertEquals( "Failed to remove item before cursor.", Integer.valueOf( 1 ), myList.deleteBefore() );
+		assertEquals( "Failed to remove item after cursor.", Integer.valueOf( 2 ), myList.deleteAfter() );
+		assertEquals( "Failed to move cursor back.", 1, myList.getCursor() );
+		Object[] expected = { 0, 3, 4 };
+		assertArrayEquals( "Failed to remove items.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GapBufferList#deleteBefore()}
+	 * to throw NoSuchElementException at the start of the list.
+	 */
+	@Test
+	public void testDeleteBefore_NoSuchElementException()
+	{
+		myList.insert( 1 );
+		myList.moveCursor( 0 );
+		try
+		{
+			myList.deleteBefore();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GapBufferList#moveCursor(int)}
+	 * to throw IndexOutOfBoundsException for a position past the size.
+	 */
+	@Test
+	public void testMoveCursor_IndexOutOfBoundsException()
+	{
+		myList.insert( 1 );
+		try
+		{
+			myList.moveCursor( 2 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GapBufferList#add(java.lang.Object)}
+	 * to carry the gap to the end on the first append, so later appends insert at the cursor.
+	 */
+	@Test
+	public void testAddE_CursorInMiddle()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		myList.moveCursor( 5 );
+		for( int i = 20; i < 30; i++ )
+		{
+			myList.add( i );
+			assertEquals( "Failed to move cursor to end.", i + 1, myList.getCursor() );
+		}
+		for( int i = 0; i < 30; i++ )
+		{
+			assertEquals( "Failed to keep items in order.", Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GapBufferList#iterator()}
+	 * to skip the gap and keep working when the cursor moves.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		myList.moveCursor( 4 );
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < 5; i++ )
+		{
+			assertEquals( "Failed to return correct item.", Integer.valueOf( i ), it.next() );
+		}
+		myList.moveCursor( 8 );
+		for( int i = 5; i < 10; i++ )
+		{
+			assertEquals( "Failed to return correct item after cursor moved.", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GapBufferList}
+	 * to match a MyArrayList after a random walk of edits near a moving position.
+	 */
+	@Test
+	public void testMatchesMyArrayList()
+	{
+		MyArrayList<Integer> plain = new MyArrayList<>();
+		Random random = new Random( 304 );
+		int position = 0;
+		for( int step = 0; step < 20000; step++ )
+		{
+			position = Math.max( 0, Math.min( plain.size(), position + random.nextInt( 11 ) - 5 ) );
+			int op = random.nextInt( 5 );
+			if( op < 2 || plain.isEmpty() )
+			{
+				myList.add( position, step );
+				plain.add( position, step );
+			}
+			else if( op == 2 && position < plain.size() )
+			{
+				assertEquals( "Failed to remove same item.", plain.remove( position ), myList.remove( position ) );
+			}
+			else if( op == 3 )
+			{
+				myList.add( step );
+				plain.add( step );
+			}
+			else if( position < plain.size() )
+			{
+				assertEquals( "Failed to replace same item.", plain.set( position, -step ), myList.set( position, -step ) );
+			}
+		}
+		assertArrayEquals( "Failed to keep same items.", plain.toArray(), myList.toArray() );
+		assertEquals( "Failed to find same index.", plain.linearSearch( plain.get( 50 ) ), myList.indexOf( plain.get( 50 ) ) );
+	}
+}
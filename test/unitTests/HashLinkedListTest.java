@@ -0,0 +1,219 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.HashLinkedList;
+import implementations.MyArrayList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the hash-indexed, insertion-ordered linked implementation of the ListADT.
+ */
+public class HashLinkedListTest
+{
+	// Attributes
+	private HashLinkedList<Integer> myList;
+
+	/**
+	 * Initializes a new HashLinkedList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new HashLinkedList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.HashLinkedList#add(java.lang.Object)}
+	 * to drop duplicates while keeping first-seen order.
+	 */
+	@Test
+	public void testAddE_Dedup()
+	{
+		int[] input = { 5, 3, 5, 1, 3, 9, 1, 5 };
+		for( int value : input )
+		{
+			myList.add( value );
+		}
+		assertArrayEquals( "Failed to keep first-seen order.", new Object[] { 5, 3, 1, 9 }, myList.toArray() );
+		assertFalse( "Failed to reject duplicate.", myList.add( 3 ) );
+		assertFalse( "Failed to reject duplicate at index.", myList.add( 0, 9 ) );
+		assertEquals( "Failed to keep size.", 4, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.HashLinkedList#remove(java.lang.Object)} and
+	 * {@link implementations.HashLinkedList#contains(java.lang.Object)}
+	 * to unlink an element found through the index and forget it.
+	 */
+	@Test
+	public void testRemoveE()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to remove item.", Integer.valueOf( 4 ), myList.remove( Integer.valueOf( 4 ) ) );
+		assertFalse( "Failed to forget removed item.", myList.contains( 4 ) );
+		assertNull( "Failed to return null for missing item.", myList.remove( Integer.valueOf( 4 ) ) );
+		assertTrue( "Failed to find kept item.", myList.contains( 5 ) );
+		assertEquals( "Failed to close gap.", Integer.valueOf( 5 ), myList.get( 4 ) );
+		assertTrue( "Failed to add removed item again.", myList.add( 4 ) );
+		assertEquals( "Failed to append re-added item.", Integer.valueOf( 4 ), myList.get( 9 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.HashLinkedList#moveToEnd(java.lang.Object)}
+	 * to track recency, evicting the least recently used element from the front.
+	 */
+	@Test
+	public void testMoveToEnd_Recency()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.add( 3 );
+		assertTrue( "Failed to move item.", myList.moveToEnd( 1 ) );
+		assertTrue( "Failed to move last item.", myList.moveToEnd( 1 ) );
+		assertFalse( "Failed to report missing item.", myList.moveToEnd( 7 ) );
+		myList.add( 4 );
+		assertEquals( "Failed to evict least recently used.", Integer.valueOf( 2 ), myList.remove( 0 ) );
+		assertFalse( "Failed to forget evicted item.", myList.contains( 2 ) );
+		Object[] expected = { 3, 1, 4 };
+		assertArrayEquals( "Failed to keep recency order.", expected, myList.toArray() );
+		Iterator<Integer> it = myList.iterator();
+		for( Object value : expected )
+		{
+			assertEquals( "Failed to iterate in recency order.", value, it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.HashLinkedList#set(int, java.lang.Object)}
+	 * to update the index and refuse an element held at another index.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		assertEquals( "Failed to replace item.", Integer.valueOf( 1 ), myList.set( 0, 5 ) );
+		assertTrue( "Failed to index new item.", myList.contains( 5 ) );
+		assertFalse( "Failed to forget old item.", myList.contains( 1 ) );
+		assertEquals( "Failed to set same item.", Integer.valueOf( 5 ), myList.set( 0, 5 ) );
+		try
+		{
+			myList.set( 0, 2 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch ( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.HashLinkedList#get(int)}
+	 * to throw an exception for an index out of bounds.
+	 */
+	@Test
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		try
+		{
+			myList.get( 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch ( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.HashLinkedList#set(int, java.lang.Object)} and
+	 * {@link implementations.HashLinkedList#moveToEnd(java.lang.Object)}
+	 * to keep the element index in step with the list order under random replaces and moves.
+	 */
+	@Test
+	public void testSetAndMoveToEnd_RandomKeepsIndex()
+	{
+		MyArrayList<Integer> plain = new MyArrayList<>();
+		int fresh = 0;
+		for( ; fresh < 200; fresh++ )
+		{
+			myList.add( fresh );
+			plain.add( fresh );
+		}
+		Random random = new Random( 25 );
+		for( int step = 0; step < 5000; step++ )
+		{
+			int position = random.nextInt( plain.size() );
+			int op = random.nextInt( 4 );
+			if( op == 0 )
+			{
+				Integer item = plain.remove( position );
+				plain.add( item );
+				assertTrue( "Failed to move present item.", myList.moveToEnd( item ) );
+			}
+			else if( op == 1 )
+			{
+				Integer replaced = plain.set( position, fresh );
+				assertEquals( "Failed to replace item.", replaced, myList.set( position, fresh++ ) );
+				assertFalse( "Failed to drop replaced item from index.", myList.contains( replaced ) );
+				assertFalse( "Failed to ignore move of replaced item.", myList.moveToEnd( replaced ) );
+			}
+			else if( op == 2 )
+			{
+				Integer item = plain.get( position );
+				assertEquals( "Failed to set item onto itself.", item, myList.set( position, item ) );
+			}
+			else
+			{
+				Integer elsewhere = plain.get( ( position + 1 + random.nextInt( plain.size() - 1 ) ) % plain.size() );
+				try
+				{
+					myList.set( position, elsewhere );
+					fail( "Failed to throw IllegalArgumentException." );
+				}
+				catch ( IllegalArgumentException e )
+				{
+					assertTrue( true );
+				}
+			}
+		}
+		assertArrayEquals( "Failed to keep same order.", plain.toArray(), myList.toArray() );
+		while( !plain.isEmpty() )
+		{
+			Integer item = plain.get( random.nextInt( plain.size() ) );
+			plain.remove( item );
+			assertEquals( "Failed to remove indexed item.", item, myList.remove( item ) );
+		}
+		assertTrue( "Failed to empty list.", myList.isEmpty() );
+	}
+}
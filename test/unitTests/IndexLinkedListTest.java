@@ -0,0 +1,305 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.IndexLinkedList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the index-linked (node-free) doubly linked implementation of the ListADT.
+ */
+public class IndexLinkedListTest
+{
+	// Attributes
+	private IndexLinkedList<Integer> myList;
+
+	/**
+	 * Initializes a list with room for four elements before each test, so the slot arrays grow.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new IndexLinkedList<>( 4 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#add(int, java.lang.Object)}
+	 * to link new slots in front of the head.
+	 */
+	@Test
+	public void testAddIntE_Front()
+	{
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( 0, i );
+		}
+		for( int i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to insert at front.", Integer.valueOf( 49 - i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#remove(java.lang.Object)}
+	 * to remove items until the list is empty and then reuse it.
+	 */
+	@Test
+	public void testRemoveE_UntilEmpty()
+	{
+		for( int i = 0; i < 30; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 29; i >= 0; i -= 2 )
+		{
+			assertEquals( "Failed to remove item.", Integer.valueOf( i ), myList.remove( Integer.valueOf( i ) ) );
+		}
+		for( int i = 0; i < 30; i += 2 )
+		{
+			assertEquals( "Failed to remove item.", Integer.valueOf( i ), myList.remove( Integer.valueOf( i ) ) );
+		}
+		assertTrue( "Failed to empty list.", myList.isEmpty() );
+		assertNull( "Failed to return null for missing item.", myList.remove( Integer.valueOf( 1 ) ) );
+		myList.add( 7 );
+		assertEquals( "Failed to reuse list.", Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#iterator()}
+	 * to follow the slot links in order and fail fast after a change.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < 10; i++ )
+		{
+			assertEquals( "Failed to iterate in order.", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		it = myList.iterator();
+		myList.remove( 0 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch ( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#get(int)}
+	 * to throw an exception for an index out of bounds.
+	 */
+	@Test
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		try
+		{
+			myList.get( 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch ( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#add(int, java.lang.Object)} and
+	 * {@link implementations.IndexLinkedList#remove(int)}
+	 * to reuse freed slots, without growing, under random adds and removes at both ends.
+	 */
+	@Test
+	public void testBothEnds_RandomReusesSlots()
+	{
+		myList = new IndexLinkedList<>( 64 );
+		MyArrayList<Integer> plain = new MyArrayList<>();
+		Random random = new Random( 22 );
+		for( int step = 0; step < 20000; step++ )
+		{
+			boolean front = random.nextBoolean();
+			boolean add = plain.isEmpty() || ( plain.size() < 64 && random.nextBoolean() );
+			if( add )
+			{
+				int position = front ? 0 : plain.size();
+				myList.add( position, step );
+				plain.add( position, step );
+			}
+			else
+			{
+				int position = front ? 0 : plain.size() - 1;
+				assertEquals( "Failed to remove end item.", plain.remove( position ), myList.remove( position ) );
+			}
+			assertEquals( "Failed to reuse freed slot.", 64, myList.capacity() );
+		}
+		assertArrayEquals( "Failed to keep items in order.", plain.toArray(), myList.toArray() );
+
+		for( int item = -1; plain.size() < 64; item-- )
+		{
+			myList.add( 0, item );
+			plain.add( 0, item );
+		}
+		assertEquals( "Failed to fill every slot without growing.", 64, myList.capacity() );
+		myList.add( 64 );
+		assertTrue( "Failed to grow once every slot is in use.", myList.capacity() > 64 );
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < plain.size(); i++ )
+		{
+			assertEquals( "Failed to iterate in order.", plain.get( i ), it.next() );
+		}
+		assertEquals( "Failed to iterate to new item.", Integer.valueOf( 64 ), it.next() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#add(java.lang.Object)} and
+	 * {@link implementations.IndexLinkedList#remove(int)}
+	 * to reuse freed slots as a queue while keeping first-in, first-out order.
+	 */
+	@Test
+	public void testQueueChurn_ReusesSlots()
+	{
+		for( int i = 0; i < 4; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 4; i < 1000; i++ )
+		{
+			assertEquals( "Failed to dequeue in order.", Integer.valueOf( i - 4 ), myList.remove( 0 ) );
+			myList.add( i );
+		}
+		Object[] expected = { 996, 997, 998, 999 };
+		assertArrayEquals( "Failed to keep queue order.", expected, myList.toArray() );
+		assertEquals( "Failed to reuse slots instead of growing.", 4, myList.capacity() );
+		myList.add( 1, 5 );
+		myList.clear();
+		myList.add( 8 );
+		assertArrayEquals( "Failed to reuse cleared list.", new Object[] { 8 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#remove(int)} and
+	 * {@link implementations.IndexLinkedList#add(int, java.lang.Object)}
+	 * to take freed slots before growing, so random edits at a steady size never grow the arrays.
+	 */
+	@Test
+	public void testRemove_ReusesFreedSlots()
+	{
+		myList = new IndexLinkedList<>( 16 );
+		for( int i = 0; i < 16; i++ )
+		{
+			myList.add( i );
+		}
+		Random random = new Random( 304 );
+		for( int step = 0; step < 5000; step++ )
+		{
+			myList.remove( random.nextInt( 16 ) );
+			myList.add( random.nextInt( 16 ), step );
+		}
+		assertEquals( "Failed to keep size.", 16, myList.size() );
+		assertEquals( "Failed to reuse freed slots.", 16, myList.capacity() );
+		myList.add( 16 );
+		assertEquals( "Failed to grow once all slots are in use.", 24, myList.capacity() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#addAll(utilities.ListADT)}
+	 * to size the arrays for the new items less the free slots, filling the free slots first.
+	 */
+	@Test
+	public void testAddAll_WithFreeSlots()
+	{
+		myList = new IndexLinkedList<>( 20 );
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.remove( 0 ); // Frees five slots, leaving 5 to 19
+		}
+		MyArrayList<Integer> more = new MyArrayList<>();
+		for( int i = 100; i < 125; i++ )
+		{
+			more.add( i );
+		}
+		myList.addAll( more );
+		assertEquals( "Failed to grow to exactly the slots needed.", 40, myList.capacity() );
+		assertEquals( "Failed to add all items.", 40, myList.size() );
+		for( int i = 0; i < 15; i++ )
+		{
+			assertEquals( "Failed to keep earlier items.", Integer.valueOf( i + 5 ), myList.get( i ) );
+		}
+		for( int i = 0; i < 25; i++ )
+		{
+			assertEquals( "Failed to append items in order.", Integer.valueOf( i + 100 ), myList.get( i + 15 ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexLinkedList#clear()}
+	 * to drop slots left on the free list and refill the arrays from the first slot without growing.
+	 */
+	@Test
+	public void testClear_ReusesSlots()
+	{
+		myList = new IndexLinkedList<>( 8 );
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( i );
+		}
+		myList.remove( 2 );
+		myList.remove( Integer.valueOf( 6 ) );
+		myList.remove( 0 ); // Three slots on the free list
+		myList.clear();
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( 0, i );
+		}
+		assertEquals( "Failed to reuse cleared slots.", 8, myList.capacity() );
+		Object[] expected = { 7, 6, 5, 4, 3, 2, 1, 0 };
+		assertArrayEquals( "Failed to link refilled slots.", expected, myList.toArray() );
+		Iterator<Integer> it = myList.iterator();
+		for( Object value : expected )
+		{
+			assertEquals( "Failed to iterate refilled slots.", value, it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
+}
@@ -0,0 +1,364 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.IndexableSkipList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the indexable skip list implementation of the ListADT.
+ */
+public class IndexableSkipListTest
+{
+	// Attributes
+	private IndexableSkipList<Integer> myList;
+
+	/**
+	 * Initializes an empty list before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new IndexableSkipList<>();
+	}
+
+	/**
+	 * Reads a private field of the list or of one of its nodes.
+	 * @param owner The object holding the field.
+	 * @param name The field name.
+	 * @return The field value.
+	 * @throws Exception if the field does not exist.
+	 */
+	private static Object field( Object owner, String name ) throws Exception
+	{
+		Field field = owner.getClass().getDeclaredField( name );
+		field.setAccessible( true );
+		return field.get( owner );
+	}
+
+	/**
+	 * Returns a node's link on a level: the level-0 field, or an express link above it.
+	 * @param node The node.
+	 * @param level The level, below the node's own level count.
+	 * @return The next node on the level, or null.
+	 * @throws Exception if the node fields do not exist.
+	 */
+	private static Object link( Object node, int level ) throws Exception
+	{
+		return level == 0 ? field( node, "next" ) : ( (Object[]) field( node, "express" ) )[level - 1];
+	}
+
+	/**
+	 * Checks every link on every level skips exactly the number of level-0 steps its width records,
+	 * and that the list's level is the highest level the head still links on.
+	 * @param message The failure message.
+	 * @throws Exception if the list fields do not exist.
+	 */
+	private void assertWidths( String message ) throws Exception
+	{
+		Object head = field( myList, "head" );
+		int level = (Integer) field( myList, "level" );
+		IdentityHashMap<Object, Integer> positions = new IdentityHashMap<>();
+		positions.put( head, 0 );
+		int position = 0;
+		for( Object node = link( head, 0 ); node != null; node = link( node, 0 ) )
+		{
+			positions.put( node, ++position );
+		}
+		assertEquals( message, myList.size(), position );
+
+		int levels = ( (Object[]) field( head, "express" ) ).length + 1;
+		for( int i = 1; i < levels; i++ )
+		{
+			assertEquals( message, i < level, link( head, i ) != null );
+			for( Object node = head; link( node, i ) != null; node = link( node, i ) )
+			{
+				int width = ( (int[]) field( node, "width" ) )[i - 1];
+				assertEquals( message, positions.get( link( node, i ) ) - positions.get( node ), width );
+			}
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#add(int, java.lang.Object)}
+	 * to insert in front of the head so every express link from the head widens.
+	 */
+	@Test
+	public void testAddIntE_Front()
+	{
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( 0, i );
+		}
+		for( int i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to insert at front.", Integer.valueOf( 49 - i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#remove(java.lang.Object)}
+	 * to remove items until the list is empty and then reuse it.
+	 */
+	@Test
+	public void testRemoveE_UntilEmpty()
+	{
+		for( int i = 0; i < 30; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 29; i >= 0; i -= 2 )
+		{
+			assertEquals( "Failed to remove item.", Integer.valueOf( i ), myList.remove( Integer.valueOf( i ) ) );
+		}
+		for( int i = 0; i < 30; i += 2 )
+		{
+			assertEquals( "Failed to remove item.", Integer.valueOf( i ), myList.remove( Integer.valueOf( i ) ) );
+		}
+		assertTrue( "Failed to empty list.", myList.isEmpty() );
+		assertNull( "Failed to return null for missing item.", myList.remove( Integer.valueOf( 1 ) ) );
+		myList.add( 7 );
+		assertEquals( "Failed to reuse list.", Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#iterator()}
+	 * to follow the level-0 links in order and fail fast after a change.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < 10; i++ )
+		{
+			assertEquals( "Failed to iterate in order.", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		it = myList.iterator();
+		myList.remove( 0 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch ( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#get(int)}
+	 * to throw an exception for an index out of bounds.
+	 */
+	@Test
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		try
+		{
+			myList.get( 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch ( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#add(int, java.lang.Object)},
+	 * {@link implementations.IndexableSkipList#remove(int)} and
+	 * {@link implementations.IndexableSkipList#get(int)}
+	 * to keep every link width and the list level correct while random edits grow the list tall and shrink it to empty.
+	 * @throws Exception if the list fields cannot be read.
+	 */
+	@Test
+	public void testWidths_RandomGrowAndShrink() throws Exception
+	{
+		MyArrayList<Integer> plain = new MyArrayList<>();
+		Random random = new Random( 23 );
+		for( int round = 0; round < 4; round++ )
+		{
+			for( int step = 0; step < 400; step++ ) // Mostly adds, so taller nodes keep arriving
+			{
+				int position = pickPosition( random, plain.size() + 1 );
+				if( random.nextInt( 4 ) > 0 || plain.isEmpty() )
+				{
+					myList.add( position, step );
+					plain.add( position, step );
+				}
+				else
+				{
+					position = Math.min( position, plain.size() - 1 );
+					assertEquals( "Failed to remove while growing.", plain.remove( position ), myList.remove( position ) );
+				}
+				assertWidths( "Failed to keep widths while growing." );
+			}
+			while( !plain.isEmpty() )
+			{
+				int position = pickPosition( random, plain.size() );
+				assertEquals( "Failed to get before removing.", plain.get( position ), myList.get( position ) );
+				assertEquals( "Failed to remove while shrinking.", plain.remove( position ), myList.remove( position ) );
+				assertWidths( "Failed to keep widths while shrinking." );
+			}
+			assertEquals( "Failed to drop every level once empty.", 1, (int) (Integer) field( myList, "level" ) );
+		}
+	}
+
+	/**
+	 * Picks the front, the back or a random position, so edits often land where the head and the last express links change.
+	 * @param random The random source.
+	 * @param bound One past the highest allowed position.
+	 * @return A position from 0 to bound - 1.
+	 */
+	private static int pickPosition( Random random, int bound )
+	{
+		int choice = random.nextInt( 3 );
+		return choice == 0 ? 0 : choice == 1 ? bound - 1 : random.nextInt( bound );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#get(int)} and
+	 * {@link implementations.IndexableSkipList#remove(int)}
+	 * to keep link widths correct while the list grows tall and then shrinks back to empty.
+	 */
+	@Test
+	public void testGrowAndShrink()
+	{
+		for( int i = 0; i < 5000; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 5000; i += 7 )
+		{
+			assertEquals( "Failed to get by position.", Integer.valueOf( i ), myList.get( i ) );
+		}
+		for( int i = 0; i < 1875; i++ )
+		{
+			assertEquals( "Failed to remove from middle.", Integer.valueOf( 1250 + 2 * i ), myList.remove( 1250 ) );
+			myList.remove( 1250 );
+			assertEquals( "Failed to keep earlier items.", Integer.valueOf( 1249 ), myList.get( 1249 ) );
+		}
+		assertEquals( "Failed to shrink list.", 1250, myList.size() );
+		while( !myList.isEmpty() )
+		{
+			myList.remove( myList.size() - 1 );
+		}
+		myList.add( 0, 8 );
+		myList.add( 0, 7 );
+		assertArrayEquals( "Failed to reuse emptied list.", new Object[] { 7, 8 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#add(int, java.lang.Object)}
+	 * to set correct widths when a node inserted at index 0 is taller than the list.
+	 * @throws Exception if the list fields cannot be read.
+	 */
+	@Test
+	public void testAddIntE_FrontRaisesLevel() throws Exception
+	{
+		int raised = 0;
+		for( int i = 0; i < 3000; i++ )
+		{
+			int level = (Integer) field( myList, "level" );
+			myList.add( 0, i );
+			if( (Integer) field( myList, "level" ) > level )
+			{
+				raised++;
+				assertWidths( "Failed to link taller node at front." );
+			}
+		}
+		assertTrue( "Failed to raise the level.", raised > 0 );
+		assertWidths( "Failed to keep widths after front inserts." );
+		assertEquals( "Failed to insert at front.", Integer.valueOf( 0 ), myList.get( 2999 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#add(int, java.lang.Object)}
+	 * to set correct widths when a node inserted at index size is taller than the list.
+	 * @throws Exception if the list fields cannot be read.
+	 */
+	@Test
+	public void testAddIntE_EndRaisesLevel() throws Exception
+	{
+		int raised = 0;
+		for( int i = 0; i < 3000; i++ )
+		{
+			int level = (Integer) field( myList, "level" );
+			myList.add( myList.size(), i );
+			if( (Integer) field( myList, "level" ) > level )
+			{
+				raised++;
+				assertWidths( "Failed to link taller node at end." );
+			}
+		}
+		assertTrue( "Failed to raise the level.", raised > 0 );
+		assertWidths( "Failed to keep widths after appends." );
+		assertEquals( "Failed to append.", Integer.valueOf( 2999 ), myList.get( 2999 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexableSkipList#remove(int)}
+	 * to keep widths correct on the levels left after removals lower the list's level.
+	 * @throws Exception if the list fields cannot be read.
+	 */
+	@Test
+	public void testRemoveInt_LowersLevel() throws Exception
+	{
+		for( int i = 0; i < 3000; i++ )
+		{
+			myList.add( i );
+		}
+		Random random = new Random( 304 );
+		int lowered = 0;
+		while( myList.size() > 1 )
+		{
+			int level = (Integer) field( myList, "level" );
+			myList.remove( random.nextInt( myList.size() ) );
+			if( (Integer) field( myList, "level" ) < level )
+			{
+				lowered++;
+				assertWidths( "Failed to keep widths after lowering level." );
+			}
+		}
+		assertTrue( "Failed to lower the level.", lowered > 0 );
+		myList.remove( 0 );
+		assertWidths( "Failed to reset an emptied list." );
+		assertEquals( "Failed to drop to one level.", 1, field( myList, "level" ) );
+	}
+}
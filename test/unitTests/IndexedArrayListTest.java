@@ -0,0 +1,143 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.IndexedArrayList;
+import implementations.MyArrayList;
+
+/**
+ * Class Description:
+ * Test for the hash-indexed array-based implementation of the ListADT.
+ */
+public class IndexedArrayListTest
+{
+	// Attributes
+	private IndexedArrayList<Integer> myList;
+
+	/**
+	 * Initializes a new IndexedArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new IndexedArrayList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexedArrayList#contains(java.lang.Object)}
+	 * to find added items and stop finding them once removed.
+	 */
+	@Test
+	public void testContains()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.add( 2 );
+		assertTrue( "Failed to find item.", myList.contains( 2 ) );
+		myList.remove( Integer.valueOf( 2 ) );
+		assertTrue( "Failed to find remaining duplicate.", myList.contains( 2 ) );
+		myList.remove( Integer.valueOf( 2 ) );
+		assertFalse( "Failed to forget removed item.", myList.contains( 2 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexedArrayList#indexOf(java.lang.Object)}
+	 * to track positions through inserts, removes and sets in the middle of the list.
+	 */
+	@Test
+	public void testIndexOf_AfterShifts()
+	{
+		myList.add( 10 );
+		myList.add( 20 );
+		myList.add( 30 );
+		myList.add( 0, 5 );
+		assertEquals( "Failed to shift position after insert.", 3, myList.indexOf( 30 ) );
+		myList.remove( 1 );
+		assertEquals( "Failed to shift position after remove.", 2, myList.indexOf( 30 ) );
+		assertEquals( "Failed to forget removed item.", -1, myList.indexOf( 10 ) );
+		myList.set( 0, 30 );
+		assertEquals( "Failed to record set item.", 0, myList.indexOf( 30 ) );
+		assertEquals( "Failed to forget replaced item.", -1, myList.indexOf( 5 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexedArrayList#remove(java.lang.Object)}
+	 * to return null for an item that is not in the list.
+	 */
+	@Test
+	public void testRemoveE_NotFound()
+	{
+		myList.add( 1 );
+		assertNull( "Failed to return null.", myList.remove( Integer.valueOf( 3 ) ) );
+		assertEquals( "Failed to leave list unchanged.", 1, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IndexedArrayList#IndexedArrayList(boolean)}
+	 * to give the same answers as a plain list after random edits, with and without a lazy index.
+	 */
+	@Test
+	public void testMatchesMyArrayList()
+	{
+		for( boolean lazy : new boolean[] { false, true } )
+		{
+			IndexedArrayList<Integer> indexed = new IndexedArrayList<>( lazy );
+			MyArrayList<Integer> plain = new MyArrayList<>();
+			Random random = new Random( 304 );
+			for( int step = 0; step < 2000; step++ )
+			{
+				int value = random.nextInt( 50 );
+				int op = random.nextInt( 5 );
+				if( op == 0 || plain.isEmpty() )
+				{
+					int position = random.nextInt( plain.size() + 1 );
+					indexed.add( position, value );
+					plain.add( position, value );
+				}
+				else if( op == 1 )
+				{
+					int position = random.nextInt( plain.size() );
+					assertEquals( "Failed to remove same item.", plain.remove( position ), indexed.remove( position ) );
+				}
+				else if( op == 2 )
+				{
+					assertEquals( "Failed to remove same item.", plain.remove( Integer.valueOf( value ) ), indexed.remove( Integer.valueOf( value ) ) );
+				}
+				else if( op == 3 )
+				{
+					int position = random.nextInt( plain.size() );
+					indexed.set( position, value );
+					plain.set( position, value );
+				}
+				else
+				{
+					indexed.add( value );
+					plain.add( value );
+				}
+				assertEquals( "Failed to find same index.", plain.linearSearch( value ), indexed.indexOf( value ) );
+			}
+			assertArrayEquals( "Failed to keep same items.", plain.toArray(), indexed.toArray() );
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.IntArrayList;
+import utilities.IntIterator;
+
+/**
+ * Class Description:
+ * Test for the primitive int specialization of the array-based list.
+ */
+public class IntArrayListTest
+{
+	// Attributes
+	private IntArrayList myList;
+
+	/**
+	 * Initializes a new IntArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new IntArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of IntArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertTrue( "Failed to be empty.", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int)}
+	 * to add many values past the default capacity.
+	 */
+	@Test
+	public void testAdd_Many()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i * 2 );
+		}
+		assertEquals( "Failed to return correct size.", 1000, myList.size() );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to return correct value.", i * 2, myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int, int)}
+	 * to insert values at the front and middle of the list.
+	 */
+	@Test
+	public void testAddIntInt()
+	{
+		myList.add( 3 );
+		myList.add( 0, 1 );
+		myList.add( 1, 2 );
+		myList.add( 3, 4 );
+		assertArrayEquals( "Failed to insert values in order.", new int[] { 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#add(int, int)}
+	 * to throw IndexOutOfBoundsException for an index past the size.
+	 */
+	@Test
+	public void testAddIntInt_IndexOutOfBoundsException()
+	{
+		try
+		{
+			myList.add( 1, 5 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#remove(int)}
+	 * to remove the value at an index and shift the rest left.
+	 */
+	@Test
+	public void testRemove()
+	{
+		myList.add( 10 );
+		myList.add( 20 );
+		myList.add( 30 );
+		assertEquals( "Failed to return removed value.", 20, myList.remove( 1 ) );
+		assertArrayEquals( "Failed to shift values.", new int[] { 10, 30 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#removeValue(int)}
+	 * to remove the first occurrence of a value rather than the value at that index.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( 5 );
+		myList.add( 0 );
+		myList.add( 5 );
+		assertTrue( "Failed to remove value.", myList.removeValue( 5 ) );
+		assertArrayEquals( "Failed to remove first occurrence.", new int[] { 0, 5 }, myList.toArray() );
+		assertFalse( "Failed to return false for missing value.", myList.removeValue( 7 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#set(int, int)}
+	 * to replace a value and return the old one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		assertEquals( "Failed to return replaced value.", 2, myList.set( 1, 9 ) );
+		assertEquals( "Failed to store new value.", 9, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#contains(int)}
+	 * to find present values and reject missing ones.
+	 */
+	@Test
+	public void testContains()
+	{
+		myList.add( -1 );
+		myList.add( 42 );
+		assertTrue( "Failed to find value.", myList.contains( 42 ) );
+		assertFalse( "Failed to reject missing value.", myList.contains( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#iterator()}
+	 * to iterate over all values in order and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		IntIterator it = myList.iterator();
+		assertEquals( "Failed to return first value.", 1, it.nextInt() );
+		assertEquals( "Failed to return second value.", 2, it.nextInt() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.nextInt();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntArrayList#iterator()}
+	 * to throw ConcurrentModificationException when the list is modified during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		myList.add( 1 );
+		IntIterator it = myList.iterator();
+		myList.add( 2 );
+		try
+		{
+			it.nextInt();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
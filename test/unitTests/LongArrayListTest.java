@@ -0,0 +1,226 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.LongArrayList;
+import utilities.LongIterator;
+
+/**
+ * Class Description:
+ * Test for the primitive long specialization of the array-based list.
+ */
+public class LongArrayListTest
+{
+	// Attributes
+	private LongArrayList myList;
+
+	/**
+	 * Initializes a new LongArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new LongArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of LongArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertTrue( "Failed to be empty.", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(int)}
+	 * to add many values past the default capacity.
+	 */
+	@Test
+	public void testAdd_Many()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i * 2 );
+		}
+		assertEquals( "Failed to return correct size.", 1000, myList.size() );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to return correct value.", i * 2, myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(int, int)}
+	 * to insert values at the front and middle of the list.
+	 */
+	@Test
+	public void testAddIntInt()
+	{
+		myList.add( 3 );
+		myList.add( 0, 1 );
+		myList.add( 1, 2 );
+		myList.add( 3, 4 );
+		assertArrayEquals( "Failed to insert values in order.", new long[] { 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(int, int)}
+	 * to throw IndexOutOfBoundsException for an index past the size.
+	 */
+	@Test
+	public void testAddIntInt_IndexOutOfBoundsException()
+	{
+		try
+		{
+			myList.add( 1, 5 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#remove(int)}
+	 * to remove the value at an index and shift the rest left.
+	 */
+	@Test
+	public void testRemove()
+	{
+		myList.add( 10 );
+		myList.add( 20 );
+		myList.add( 30 );
+		assertEquals( "Failed to return removed value.", 20, myList.remove( 1 ) );
+		assertArrayEquals( "Failed to shift values.", new long[] { 10, 30 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#removeValue(int)}
+	 * to remove the first occurrence of a value rather than the value at that index.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( 5 );
+		myList.add( 0 );
+		myList.add( 5 );
+		assertTrue( "Failed to remove value.", myList.removeValue( 5 ) );
+		assertArrayEquals( "Failed to remove first occurrence.", new long[] { 0, 5 }, myList.toArray() );
+		assertFalse( "Failed to return false for missing value.", myList.removeValue( 7 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#set(int, int)}
+	 * to replace a value and return the old one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		assertEquals( "Failed to return replaced value.", 2, myList.set( 1, 9 ) );
+		assertEquals( "Failed to store new value.", 9, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#contains(int)}
+	 * to find present values and reject missing ones.
+	 */
+	@Test
+	public void testContains()
+	{
+		myList.add( -1 );
+		myList.add( 42 );
+		assertTrue( "Failed to find value.", myList.contains( 42 ) );
+		assertFalse( "Failed to reject missing value.", myList.contains( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#iterator()}
+	 * to iterate over all values in order and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		LongIterator it = myList.iterator();
+		assertEquals( "Failed to return first value.", 1, it.nextLong() );
+		assertEquals( "Failed to return second value.", 2, it.nextLong() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.nextLong();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#iterator()}
+	 * to throw ConcurrentModificationException when the list is modified during iteration.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		myList.add( 1 );
+		LongIterator it = myList.iterator();
+		myList.add( 2 );
+		try
+		{
+			it.nextLong();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(long)}
+	 * to store values outside the int range without truncation.
+	 */
+	@Test
+	public void testAdd_BeyondIntRange()
+	{
+		long big = Integer.MAX_VALUE + 10L;
+		myList.add( big );
+		myList.add( -big );
+		assertEquals( "Failed to return large value.", big, myList.get( 0 ) );
+		assertTrue( "Failed to find large negative value.", myList.contains( -big ) );
+	}
+}
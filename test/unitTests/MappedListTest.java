@@ -0,0 +1,289 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.BinaryCodecs;
+import implementations.MappedList;
+import implementations.MyArrayList;
+import utilities.BinaryCodec;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for saving lists in the binary mapped format and reading them back
+ * through a read-only memory-mapped view.
+ */
+public class MappedListTest
+{
+	/**
+	 * Fixed-size codec for (line, offset) records stored as int pairs.
+	 */
+	private static final BinaryCodec<int[]> PAIR = new BinaryCodec<int[]>()
+	{
+		public int fixedSize()
+		{
+			return 8;
+		}
+
+		public byte[] encode( int[] element )
+		{
+			return ByteBuffer.allocate( 8 ).putInt( element[0] ).putInt( element[1] ).array();
+		}
+
+		public int[] decode( ByteBuffer buffer, int offset, int length )
+		{
+			return new int[] { buffer.getInt( offset ), buffer.getInt( offset + 4 ) };
+		}
+	};
+
+	// Attributes
+	private Path file;
+	private MyArrayList<MappedList<?>> opened;
+
+	/**
+	 * Creates a temporary file before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		file = Files.createTempFile( "mapped", ".bin" );
+		opened = new MyArrayList<>();
+	}
+
+	/**
+	 * Closes every list opened by the test, then deletes the temporary file,
+	 * which Windows refuses while it is still mapped.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		for ( int i = 0; i < opened.size(); i++ )
+		{
+			opened.get( i ).close();
+		}
+		Files.deleteIfExists( file );
+		file = null;
+		opened = null;
+	}
+
+	/**
+	 * Opens the temporary file and records the list so it is closed after the test.
+	 * @param codec The codec to read the file with.
+	 * @return The opened list.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	private <E> MappedList<E> open( BinaryCodec<E> codec ) throws IOException
+	{
+		MappedList<E> mapped = MappedList.open( file, codec );
+		opened.add( mapped );
+		return mapped;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#save(utilities.ListADT, utilities.BinaryCodec, java.nio.file.Path)} and
+	 * {@link implementations.MappedList#open(java.nio.file.Path, utilities.BinaryCodec)}
+	 * to read back a list of integers.
+	 */
+	@Test
+	public void testIntegers() throws IOException
+	{
+		MyArrayList<Integer> list = new MyArrayList<>();
+		for ( int i = 0; i < 5000; i++ )
+		{
+			list.add( i * 7 - 100 );
+		}
+		MappedList.save( list, BinaryCodecs.INTEGER, file );
+		MappedList<Integer> mapped = open( BinaryCodecs.INTEGER );
+		assertEquals( "Failed to keep size.", 5000, mapped.size() );
+		assertArrayEquals( "Failed to read back items.", list.toArray(), mapped.toArray() );
+		assertTrue( "Failed to find item.", mapped.contains( 34893 ) );
+		assertFalse( "Failed to reject missing item.", mapped.contains( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#get(int)} and
+	 * {@link implementations.MappedList#iterator()}
+	 * to read back variable-length strings, including empty and non-ASCII ones.
+	 */
+	@Test
+	public void testStrings() throws IOException
+	{
+		MyArrayList<String> list = new MyArrayList<>();
+		list.add( "root" );
+		list.add( "" );
+		list.add( "café" );
+		list.add( "line" );
+		MappedList.save( list, BinaryCodecs.STRING, file );
+		MappedList<String> mapped = open( BinaryCodecs.STRING );
+		assertEquals( "Failed to read empty string.", "", mapped.get( 1 ) );
+		assertEquals( "Failed to read non-ASCII string.", "café", mapped.get( 2 ) );
+		assertTrue( "Failed to find item.", mapped.contains( "line" ) );
+		Iterator<String> it = mapped.iterator();
+		for ( int i = 0; i < list.size(); i++ )
+		{
+			assertEquals( "Failed to iterate in order.", list.get( i ), it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch ( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#get(int)}
+	 * to read back fixed-size records through a custom codec.
+	 */
+	@Test
+	public void testRecords() throws IOException
+	{
+		MyArrayList<int[]> list = new MyArrayList<>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			list.add( new int[] { i, i * 40 } );
+		}
+		MappedList.save( list, PAIR, file );
+		MappedList<int[]> mapped = open( PAIR );
+		assertArrayEquals( "Failed to read record.", new int[] { 42, 1680 }, mapped.get( 42 ) );
+		assertTrue( "Failed to find record.", mapped.contains( new int[] { 99, 3960 } ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#add(java.lang.Object)}
+	 * to reject changes to the read-only view.
+	 */
+	@Test
+	public void testAdd_ReadOnly() throws IOException
+	{
+		MappedList.save( new MyArrayList<Integer>(), BinaryCodecs.INTEGER, file );
+		MappedList<Integer> mapped = open( BinaryCodecs.INTEGER );
+		assertTrue( "Failed to open empty list.", mapped.isEmpty() );
+		try
+		{
+			mapped.add( 1 );
+			fail( "Failed to throw UnsupportedOperationException." );
+		}
+		catch ( UnsupportedOperationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#open(java.nio.file.Path, utilities.BinaryCodec)}
+	 * to reject a codec whose element size does not match the file.
+	 */
+	@Test
+	public void testOpen_CodecMismatch() throws IOException
+	{
+		MyArrayList<Integer> list = new MyArrayList<>();
+		list.add( 1 );
+		MappedList.save( list, BinaryCodecs.INTEGER, file );
+		try
+		{
+			open( BinaryCodecs.LONG );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch ( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#open(java.nio.file.Path, utilities.BinaryCodec)}
+	 * to reject a file that was not written by save.
+	 */
+	@Test
+	public void testOpen_NotMappedFile() throws IOException
+	{
+		Files.write( file, "not a list file".getBytes( "UTF-8" ) );
+		try
+		{
+			open( BinaryCodecs.STRING );
+			fail( "Failed to throw IOException." );
+		}
+		catch ( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#close()}
+	 * to unmap the file, so it can be deleted, and reject reads afterwards.
+	 */
+	@Test
+	public void testClose() throws IOException
+	{
+		MyArrayList<String> list = new MyArrayList<>();
+		list.add( "root" );
+		MappedList.save( list, BinaryCodecs.STRING, file );
+		MappedList<String> mapped = open( BinaryCodecs.STRING );
+		assertEquals( "Failed to read item.", "root", mapped.get( 0 ) );
+		mapped.close();
+		mapped.close();
+		Files.delete( file );
+		assertEquals( "Failed to keep size.", 1, mapped.size() );
+		try
+		{
+			mapped.get( 0 );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch ( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MappedList#save(utilities.ListADT, utilities.BinaryCodec, java.nio.file.Path)}
+	 * to replace a file that is still mapped without disturbing the open view.
+	 */
+	@Test
+	public void testSave_ReplaceWhileMapped() throws IOException
+	{
+		MyArrayList<Integer> list = new MyArrayList<>();
+		for ( int i = 0; i < 1000; i++ )
+		{
+			list.add( i );
+		}
+		MappedList.save( list, BinaryCodecs.INTEGER, file );
+		MappedList<Integer> before = open( BinaryCodecs.INTEGER );
+		MyArrayList<Integer> shorter = new MyArrayList<>();
+		shorter.add( -1 );
+		MappedList.save( shorter, BinaryCodecs.INTEGER, file );
+		assertEquals( "Failed to keep old view readable.", Integer.valueOf( 999 ), before.get( 999 ) );
+		MappedList<Integer> after = open( BinaryCodecs.INTEGER );
+		assertArrayEquals( "Failed to read new contents.", new Object[] { -1 }, after.toArray() );
+		try ( java.nio.file.DirectoryStream<Path> siblings = Files.newDirectoryStream( file.getParent(), file.getFileName() + "*.tmp" ) )
+		{
+			assertFalse( "Failed to clean up temporary file.", siblings.iterator().hasNext() );
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.OffHeapRecordList;
+
+/**
+ * Class Description:
+ * Test for the off-heap list of fixed-size records, using 12-byte
+ * (tag id, line, offset) records.
+ */
+public class OffHeapRecordListTest
+{
+	private static final int TAG = 0;
+	private static final int LINE = 4;
+	private static final int OFFSET = 8;
+
+	// Attributes
+	private OffHeapRecordList myList;
+	private OffHeapRecordList.Record record;
+
+	/**
+	 * Initializes a list with four records per chunk, so the tests cross chunk boundaries.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new OffHeapRecordList( 12, 4 );
+		record = myList.newRecord();
+	}
+
+	/**
+	 * Frees the list used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList.free();
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#add(implementations.OffHeapRecordList.Record)} and
+	 * {@link implementations.OffHeapRecordList#get(int, implementations.OffHeapRecordList.Record)}
+	 * to store and read back records across several chunks.
+	 */
+	@Test
+	public void testAddGet()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.add( record ).putInt( TAG, i ).putInt( LINE, i * 2 ).putInt( OFFSET, i * 3 );
+		}
+		assertEquals( "Failed to add records.", 100, myList.size() );
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.get( i, record );
+			assertEquals( "Failed to read tag.", i, record.getInt( TAG ) );
+			assertEquals( "Failed to read line.", i * 2, record.getInt( LINE ) );
+			assertEquals( "Failed to read offset.", i * 3, record.getInt( OFFSET ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#set(int, implementations.OffHeapRecordList.Record)}
+	 * to copy a record from another list.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( record ).putInt( TAG, 1 );
+		myList.add( record ).putInt( TAG, 2 );
+		try ( OffHeapRecordList other = new OffHeapRecordList( 12 ) )
+		{
+			OffHeapRecordList.Record source = other.add( other.newRecord() ).putInt( TAG, 7 ).putLong( LINE, -1L );
+			myList.set( 0, source );
+		}
+		myList.get( 0, record );
+		assertEquals( "Failed to copy tag.", 7, record.getInt( TAG ) );
+		assertEquals( "Failed to copy long field.", -1L, record.getLong( LINE ) );
+		assertEquals( "Failed to keep other record.", 2, myList.get( 1, record ).getInt( TAG ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#clear()}
+	 * to hand out zero-filled records when the old chunks are reused.
+	 */
+	@Test
+	public void testClear_ZeroesReusedRecords()
+	{
+		for ( int i = 0; i < 10; i++ )
+		{
+			myList.add( record ).putInt( TAG, 5 ).putInt( OFFSET, 5 );
+		}
+		long reserved = myList.reservedBytes();
+		myList.clear();
+		assertTrue( "Failed to clear list.", myList.isEmpty() );
+		myList.add( record ).putInt( LINE, 9 );
+		assertEquals( "Failed to zero reused record.", 0, record.getInt( TAG ) );
+		assertEquals( "Failed to zero reused record.", 0, record.getInt( OFFSET ) );
+		assertEquals( "Failed to reuse chunks.", reserved, myList.reservedBytes() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#get(int, implementations.OffHeapRecordList.Record)}
+	 * to throw an exception for an index out of bounds.
+	 */
+	@Test
+	public void testGet_OutOfBounds()
+	{
+		myList.add( record );
+		try
+		{
+			myList.get( 1, record );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch ( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList.Record#getLong(int)}
+	 * to throw an exception for a field that runs past the end of the record.
+	 */
+	@Test
+	public void testField_OutOfBounds()
+	{
+		myList.add( record );
+		try
+		{
+			record.getLong( OFFSET );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch ( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#free()}
+	 * to release the memory and stop flyweights reading it afterwards.
+	 */
+	@Test
+	public void testFree()
+	{
+		myList.add( record ).putInt( TAG, 1 );
+		myList.free();
+		assertEquals( "Failed to release memory.", 0L, myList.reservedBytes() );
+		try
+		{
+			record.getInt( TAG );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch ( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.add( record );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch ( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
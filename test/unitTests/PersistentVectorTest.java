@@ -0,0 +1,213 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.PersistentVector;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the immutable, structurally shared vector.
+ */
+public class PersistentVectorTest
+{
+	// Attributes
+	private PersistentVector<Integer> vector;
+
+	/**
+	 * Initializes an empty PersistentVector before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		vector = PersistentVector.empty();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		vector = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.PersistentVector#plus(java.lang.Object)}
+	 * to append past several trie levels while leaving earlier versions unchanged.
+	 */
+	@Test
+	public void testPlus_Versions()
+	{
+		PersistentVector<Integer> checkpoint = null;
+		for ( int i = 0; i < 40000; i++ )
+		{
+			vector = vector.plus( i );
+			if ( i == 999 )
+			{
+				checkpoint = vector;
+			}
+		}
+		assertEquals( "Failed to grow vector.", 40000, vector.size() );
+		for ( int i = 0; i < 40000; i++ )
+		{
+			assertEquals( "Failed to read item.", Integer.valueOf( i ), vector.get( i ) );
+		}
+		assertEquals( "Failed to keep old version.", 1000, checkpoint.size() );
+		assertEquals( "Failed to keep old version.", Integer.valueOf( 999 ), checkpoint.get( 999 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.PersistentVector#with(int, java.lang.Object)}
+	 * to replace items in the trie and the tail without touching the original.
+	 */
+	@Test
+	public void testWith()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			vector = vector.plus( i );
+		}
+		PersistentVector<Integer> changed = vector.with( 5, -5 ).with( 99, -99 );
+		assertEquals( "Failed to replace trie item.", Integer.valueOf( -5 ), changed.get( 5 ) );
+		assertEquals( "Failed to replace tail item.", Integer.valueOf( -99 ), changed.get( 99 ) );
+		assertEquals( "Failed to keep original.", Integer.valueOf( 5 ), vector.get( 5 ) );
+		assertEquals( "Failed to keep original.", Integer.valueOf( 99 ), vector.get( 99 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.PersistentVector#get(int)}
+	 * to throw an exception for an index out of bounds.
+	 */
+	@Test
+	public void testGet_OutOfBounds()
+	{
+		vector = vector.plus( 1 );
+		try
+		{
+			vector.get( 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch ( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.PersistentVector#plus(java.lang.Object)}
+	 * to throw an exception when appending null.
+	 */
+	@Test
+	public void testPlus_Null()
+	{
+		try
+		{
+			vector.plus( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch ( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.PersistentVector.Builder#build()}
+	 * to keep built vectors unchanged when the builder carries on editing.
+	 */
+	@Test
+	public void testBuilder_Snapshots()
+	{
+		PersistentVector.Builder<Integer> builder = vector.toBuilder();
+		for ( int i = 0; i < 2000; i++ )
+		{
+			builder.add( i );
+		}
+		PersistentVector<Integer> first = builder.build();
+		builder.set( 10, -10 ).set( 1999, -1999 ).add( 2000 );
+		PersistentVector<Integer> second = builder.build();
+
+		assertEquals( "Failed to keep snapshot size.", 2000, first.size() );
+		assertEquals( "Failed to keep snapshot item.", Integer.valueOf( 10 ), first.get( 10 ) );
+		assertEquals( "Failed to keep snapshot item.", Integer.valueOf( 1999 ), first.get( 1999 ) );
+		assertEquals( "Failed to build edits.", 2001, second.size() );
+		assertEquals( "Failed to build edits.", Integer.valueOf( -10 ), second.get( 10 ) );
+		assertEquals( "Failed to build edits.", Integer.valueOf( -1999 ), second.get( 1999 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.PersistentVector#copyOf(utilities.ListADT)},
+	 * {@link implementations.PersistentVector#iterator()} and
+	 * {@link implementations.PersistentVector#toArray()}
+	 * to match the list it was copied from.
+	 */
+	@Test
+	public void testCopyOf()
+	{
+		MyArrayList<Integer> source = new MyArrayList<>();
+		for ( int i = 0; i < 1100; i++ )
+		{
+			source.add( i * 3 );
+		}
+		vector = PersistentVector.copyOf( source );
+		assertArrayEquals( "Failed to copy list.", source.toArray(), vector.toArray() );
+		assertArrayEquals( "Failed to fill array.", source.toArray( new Integer[0] ), vector.toArray( new Integer[0] ) );
+		Iterator<Integer> it = vector.iterator();
+		for ( int i = 0; i < 1100; i++ )
+		{
+			assertEquals( "Failed to iterate in order.", source.get( i ), it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch ( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+		assertTrue( "Failed to find item.", vector.contains( 3297 ) );
+		assertFalse( "Failed to reject missing item.", vector.contains( 1 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.PersistentVector#with(int, java.lang.Object)}
+	 * to agree with a MyArrayList under random edits, keeping each old version intact.
+	 */
+	@Test
+	public void testWith_Random()
+	{
+		Random random = new Random( 304 );
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		for ( int i = 0; i < 3000; i++ )
+		{
+			vector = vector.plus( i );
+			expected.add( i );
+		}
+		PersistentVector<Integer> original = vector;
+		for ( int i = 0; i < 2000; i++ )
+		{
+			int index = random.nextInt( expected.size() );
+			int value = random.nextInt();
+			vector = vector.with( index, value );
+			expected.set( index, value );
+		}
+		assertArrayEquals( "Failed to apply edits.", expected.toArray(), vector.toArray() );
+		for ( int i = 0; i < 3000; i++ )
+		{
+			assertEquals( "Failed to keep original.", Integer.valueOf( i ), original.get( i ) );
+		}
+	}
+}
@@ -613,4 +613,34 @@ public class QueueTest
 			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
 		} 
  
+	/**
+	 * Test method for {@link implementations.MyQueue#iterator()} to fail fast,
+	 * instead of reading a recycled node, when the queue is dequeued during iteration.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIterator_DequeueDuringIteration() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( "Failed to return first item.", one, it.next() );
+		queue.dequeue();
+		queue.enqueue( four );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch ( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+		it = queue.iterator();
+		assertEquals( "Failed to iterate after dequeue.", two, it.next() );
+		assertEquals( "Failed to iterate after dequeue.", three, it.next() );
+		assertEquals( "Failed to iterate after dequeue.", four, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
 }
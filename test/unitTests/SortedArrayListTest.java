@@ -0,0 +1,210 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.SortedArrayList;
+
+/**
+ * Class Description:
+ * Test for the sorted array-based implementation of the ListADT.
+ */
+public class SortedArrayListTest
+{
+	// Attributes
+	private SortedArrayList<Integer> myList;
+
+	/**
+	 * Initializes a new SortedArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new SortedArrayList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#add(java.lang.Object)}
+	 * to keep items in ascending order regardless of insertion order.
+	 */
+	@Test
+	public void testAddE_KeepsOrder()
+	{
+		int[] values = { 5, 1, 4, 2, 3, 2 };
+		for( int value : values )
+		{
+			myList.add( value );
+		}
+		Object[] expected = { 1, 2, 2, 3, 4, 5 };
+		assertArrayEquals( "Failed to keep items sorted.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#SortedArrayList(java.util.Comparator)}
+	 * to order items with a custom comparator.
+	 */
+	@Test
+	public void testComparator()
+	{
+		SortedArrayList<String> byLength = new SortedArrayList<>( Comparator.comparingInt( String::length ) );
+		byLength.add( "ccc" );
+		byLength.add( "a" );
+		byLength.add( "bb" );
+		byLength.add( "d" );
+		Object[] expected = { "a", "d", "bb", "ccc" };
+		assertArrayEquals( "Failed to order by comparator and keep equal items in insertion order.", expected, byLength.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#indexOf(java.lang.Object)} and
+	 * {@link implementations.SortedArrayList#contains(java.lang.Object)}
+	 * to find the first of several equal items.
+	 */
+	@Test
+	public void testIndexOfContains()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i / 2 * 2 );
+		}
+		assertEquals( "Failed to find first equal item.", 20, myList.indexOf( 20 ) );
+		assertTrue( "Failed to find item.", myList.contains( 98 ) );
+		assertFalse( "Failed to reject missing item.", myList.contains( 21 ) );
+		assertEquals( "Failed to return -1 for missing item.", -1, myList.indexOf( 1000 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#remove(java.lang.Object)}
+	 * to remove a present item and return null for a missing one.
+	 */
+	@Test
+	public void testRemoveE()
+	{
+		myList.add( 3 );
+		myList.add( 1 );
+		myList.add( 2 );
+		assertEquals( "Failed to return removed item.", Integer.valueOf( 2 ), myList.remove( Integer.valueOf( 2 ) ) );
+		assertNull( "Failed to return null for missing item.", myList.remove( Integer.valueOf( 7 ) ) );
+		Object[] expected = { 1, 3 };
+		assertArrayEquals( "Failed to remove item.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#range(java.lang.Object, java.lang.Object)}
+	 * to return items from the low bound inclusive to the high bound exclusive.
+	 */
+	@Test
+	public void testRange()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( 9 - i );
+		}
+		MyArrayList<Integer> range = myList.range( 3, 7 );
+		Object[] expected = { 3, 4, 5, 6 };
+		assertArrayEquals( "Failed to return range.", expected, range.toArray() );
+		assertEquals( "Failed to return empty range.", 0, myList.range( 7, 3 ).size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#add(int, java.lang.Object)}
+	 * to accept an item at its sorted index and reject one that would break the order.
+	 */
+	@Test
+	public void testAddIntE_Order()
+	{
+		myList.add( 1 );
+		myList.add( 3 );
+		assertTrue( "Failed to add item at sorted index.", myList.add( 1, 2 ) );
+		try
+		{
+			myList.add( 0, 9 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#set(int, java.lang.Object)}
+	 * to reject a value that would break the order.
+	 */
+	@Test
+	public void testSet_IllegalArgumentException()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.add( 3 );
+		assertEquals( "Failed to replace item that keeps order.", Integer.valueOf( 2 ), myList.set( 1, 3 ) );
+		try
+		{
+			myList.set( 0, 4 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.SortedArrayList#addAll(utilities.ListADT)}
+	 * to merge an unsorted batch in the same order as adding each item one at a time.
+	 */
+	@Test
+	public void testAddAll_MatchesAdd()
+	{
+		Comparator<String> byLength = Comparator.comparingInt( String::length );
+		SortedArrayList<String> merged = new SortedArrayList<>( byLength );
+		SortedArrayList<String> added = new SortedArrayList<>( byLength );
+		String[] start = { "bb", "a", "dddd", "cc" };
+		String[] batch = { "eee", "f", "gg", "hhhhh", "i", "jj" };
+		for( String item : start )
+		{
+			merged.add( item );
+			added.add( item );
+		}
+		MyArrayList<String> toAdd = new MyArrayList<>();
+		for( String item : batch )
+		{
+			toAdd.add( item );
+			added.add( item );
+		}
+		assertTrue( "Failed to add batch.", merged.addAll( toAdd ) );
+		assertArrayEquals( "Failed to merge batch after equal items.", added.toArray(), merged.toArray() );
+
+		assertTrue( "Failed to add list to itself.", merged.addAll( merged ) );
+		assertEquals( "Failed to double size.", 20, merged.size() );
+		for( int i = 1; i < merged.size(); i++ )
+		{
+			assertTrue( "Failed to keep order.", merged.get( i - 1 ).length() <= merged.get( i ).length() );
+		}
+	}
+}
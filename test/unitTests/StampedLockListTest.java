@@ -0,0 +1,148 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.StampedLockList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the StampedLock thread-safe implementation of the ListADT.
+ */
+public class StampedLockListTest
+{
+	// Attributes
+	private StampedLockList<Integer> myList;
+
+	/**
+	 * Initializes a new StampedLockList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new StampedLockList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.StampedLockList#get(int)}
+	 * to throw IndexOutOfBoundsException when no write overlaps the read.
+	 */
+	@Test
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		try
+		{
+			myList.get( 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.StampedLockList#contains(java.lang.Object)}
+	 * to find items and reject missing ones.
+	 */
+	@Test
+	public void testContains()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		assertTrue( "Failed to find item.", myList.contains( 2 ) );
+		assertFalse( "Failed to reject missing item.", myList.contains( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.StampedLockList#iterator()}
+	 * to keep iterating over a copy when the list changes.
+	 */
+	@Test
+	public void testIterator_Copy()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		Iterator<Integer> it = myList.iterator();
+		myList.remove( 0 );
+		assertEquals( "Failed to return copied item.", Integer.valueOf( 1 ), it.next() );
+		assertEquals( "Failed to return copied item.", Integer.valueOf( 2 ), it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch ( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.StampedLockList}
+	 * to read consistent values while other threads add and remove.
+	 * @throws InterruptedException if interrupted while waiting for the threads.
+	 */
+	@Test
+	public void testConcurrentReadsAndWrites() throws InterruptedException
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		Thread[] writers = new Thread[2];
+		for( int t = 0; t < writers.length; t++ )
+		{
+			writers[t] = new Thread( () -> {
+				for( int i = 0; i < 2000; i++ )
+				{
+					myList.add( 0, -1 );
+					myList.remove( 0 );
+				}
+			} );
+			writers[t].start();
+		}
+		boolean[] failed = { false };
+		Thread reader = new Thread( () -> {
+			for( int i = 0; i < 20000; i++ )
+			{
+				Integer value = myList.get( 99 ); // Size never drops below 100
+				if( value == null || !myList.contains( 50 ) || myList.size() < 100 )
+				{
+					failed[0] = true;
+				}
+			}
+		} );
+		reader.start();
+		for( Thread writer : writers )
+		{
+			writer.join();
+		}
+		reader.join();
+		assertFalse( "Failed to read consistent values.", failed[0] );
+		assertEquals( "Failed to keep size.", 100, myList.size() );
+	}
+}
@@ -0,0 +1,238 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.TieredArrayList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the chunked (tiered vector) implementation of the ListADT.
+ */
+public class TieredArrayListTest
+{
+	// Attributes
+	private TieredArrayList<Integer> myList;
+
+	/**
+	 * Initializes a new TieredArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new TieredArrayList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TieredArrayList#add(java.lang.Object)}
+	 * to add enough items to span many chunks and grow the chunk size.
+	 */
+	@Test
+	public void testAddE_ManyChunks()
+	{
+		for( int i = 0; i < 50000; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to return correct size.", 50000, myList.size() );
+		for( int i = 0; i < 50000; i++ )
+		{
+			assertEquals( "Failed to return correct item.", Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TieredArrayList#add(int, java.lang.Object)}
+	 * to insert at the front repeatedly, which passes elements across every chunk.
+	 */
+	@Test
+	public void testAddIntE_Front()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( 0, i );
+		}
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to return correct item.", Integer.valueOf( 999 - i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TieredArrayList#add(int, java.lang.Object)}
+	 * to throw IndexOutOfBoundsException for an index past the size.
+	 */
+	@Test
+	public void testAddIntE_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		try
+		{
+			myList.add( 2, 2 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TieredArrayList#remove(int)}
+	 * to remove every item from the front until the list is empty.
+	 */
+	@Test
+	public void testRemoveInt_UntilEmpty()
+	{
+		for( int i = 0; i < 500; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 500; i++ )
+		{
+			assertEquals( "Failed to remove correct item.", Integer.valueOf( i ), myList.remove( 0 ) );
+		}
+		assertTrue( "Failed to empty list.", myList.isEmpty() );
+		myList.add( 7 );
+		assertEquals( "Failed to reuse empty list.", Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TieredArrayList#iterator()}
+	 * to iterate over every item and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 200; i++ )
+		{
+			myList.add( i );
+		}
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < 200; i++ )
+		{
+			assertEquals( "Failed to return correct item.", Integer.valueOf( i ), it.next() );
+		}
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TieredArrayList#add(int, java.lang.Object)},
+	 * {@link implementations.TieredArrayList#remove(int)} and
+	 * {@link implementations.TieredArrayList#set(int, java.lang.Object)}
+	 * to move elements across chunk boundaries correctly under random edits next to them.
+	 */
+	@Test
+	public void testChunkBoundaries_Random()
+	{
+		MyArrayList<Integer> plain = new MyArrayList<>();
+		for( int i = 0; i < 512; i++ ) // Eight full chunks of 64
+		{
+			myList.add( i );
+			plain.add( i );
+		}
+		Random random = new Random( 9 );
+		for( int step = 0; step < 4000; step++ )
+		{
+			int boundary = 64 * random.nextInt( plain.size() / 64 + 1 );
+			int position = Math.max( 0, Math.min( plain.size() - 1, boundary + random.nextInt( 3 ) - 1 ) );
+			int op = random.nextInt( 3 );
+			if( op == 0 || plain.size() < 256 )
+			{
+				myList.add( position, -step );
+				plain.add( position, -step );
+			}
+			else if( op == 1 )
+			{
+				assertEquals( "Failed to remove next to chunk boundary.", plain.remove( position ), myList.remove( position ) );
+			}
+			else
+			{
+				assertEquals( "Failed to set next to chunk boundary.", plain.set( position, step ), myList.set( position, step ) );
+			}
+			for( int i = Math.max( 0, boundary - 1 ); i <= boundary && i < plain.size(); i++ )
+			{
+				assertEquals( "Failed to keep items either side of chunk boundary.", plain.get( i ), myList.get( i ) );
+			}
+		}
+		assertArrayEquals( "Failed to keep items in order.", plain.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.TieredArrayList#remove(int)} and
+	 * {@link implementations.TieredArrayList#add(int, java.lang.Object)}
+	 * to keep order while random front and back rotations wrap every chunk's circular buffer.
+	 */
+	@Test
+	public void testRotation_Random()
+	{
+		MyArrayList<Integer> plain = new MyArrayList<>();
+		for( int i = 0; i < 300; i++ ) // Four full chunks and a partial last chunk
+		{
+			myList.add( i );
+			plain.add( i );
+		}
+		Random random = new Random( 10 );
+		for( int step = 0; step < 3000; step++ )
+		{
+			if( random.nextBoolean() ) // Rotate left: the first item goes to the back
+			{
+				Integer item = myList.remove( 0 );
+				assertEquals( "Failed to remove front item.", plain.remove( 0 ), item );
+				myList.add( item );
+				plain.add( item );
+			}
+			else // Rotate right: the last item goes to the front
+			{
+				Integer item = myList.remove( myList.size() - 1 );
+				assertEquals( "Failed to remove back item.", plain.remove( plain.size() - 1 ), item );
+				myList.add( 0, item );
+				plain.add( 0, item );
+			}
+			if( step % 50 == 0 )
+			{
+				assertArrayEquals( "Failed to keep rotated order.", plain.toArray(), myList.toArray() );
+			}
+		}
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < plain.size(); i++ )
+		{
+			assertEquals( "Failed to iterate in rotated order.", plain.get( i ), it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+	}
+}
@@ -0,0 +1,230 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.UnrolledLinkedList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the unrolled doubly linked implementation of the ListADT.
+ * Nodes of four elements keep the node layout predictable, so each test can drive
+ * a split, borrow or merge at a chosen boundary.
+ */
+public class UnrolledLinkedListTest
+{
+	// Attributes
+	private UnrolledLinkedList<Integer> myList;
+
+	/**
+	 * Initializes a list with nodes of four elements before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new UnrolledLinkedList<>( 4 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Checks the list holds exactly the expected items, read through toArray, get and the iterator.
+	 * @param message The failure message.
+	 * @param expected The expected items in order.
+	 */
+	private void assertContents( String message, int... expected )
+	{
+		Object[] boxed = new Object[expected.length];
+		for( int i = 0; i < expected.length; i++ )
+		{
+			boxed[i] = expected[i];
+		}
+		assertArrayEquals( message, boxed, myList.toArray() );
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < expected.length; i++ )
+		{
+			assertEquals( message, boxed[i], myList.get( i ) );
+			assertTrue( message, it.hasNext() );
+			assertEquals( message, boxed[i], it.next() );
+		}
+		assertFalse( message, it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.UnrolledLinkedList#add(int, java.lang.Object)}
+	 * to split a full node when the insert offset is exactly half the capacity,
+	 * keeping the new item at the end of the lower node.
+	 */
+	@Test
+	public void testAddIntE_SplitAtHalf()
+	{
+		for( int i = 0; i < 4; i++ )
+		{
+			myList.add( i );
+		}
+		myList.add( 2, 99 ); // [0 1 99] [2 3]
+		assertContents( "Failed to split at half.", 0, 1, 99, 2, 3 );
+		myList.add( 2, 98 ); // [0 1 98 99] [2 3]
+		assertContents( "Failed to fill lower node.", 0, 1, 98, 99, 2, 3 );
+		myList.add( 2, 97 ); // [0 1 97] [98 99] [2 3]
+		assertContents( "Failed to split lower node again.", 0, 1, 97, 98, 99, 2, 3 );
+		myList.add( 3, 96 ); // Index 3 starts [98 99], which takes it: [0 1 97] [96 98 99] [2 3]
+		assertContents( "Failed to insert at start of next node.", 0, 1, 97, 96, 98, 99, 2, 3 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.UnrolledLinkedList#add(int, java.lang.Object)}
+	 * to split a full node just above half the capacity, moving the new item into the upper node.
+	 */
+	@Test
+	public void testAddIntE_SplitAboveHalf()
+	{
+		for( int i = 0; i < 4; i++ )
+		{
+			myList.add( i );
+		}
+		myList.add( 3, 99 ); // [0 1] [2 99 3]
+		assertContents( "Failed to insert into upper node.", 0, 1, 2, 99, 3 );
+		myList.add( 2, 98 ); // Index 2 starts the upper node: [0 1] [98 2 99 3]
+		assertContents( "Failed to insert at start of upper node.", 0, 1, 98, 2, 99, 3 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.UnrolledLinkedList#add(int, java.lang.Object)}
+	 * to split nodes of odd capacity into a smaller lower half and a larger upper half.
+	 */
+	@Test
+	public void testAddIntE_OddCapacity()
+	{
+		myList = new UnrolledLinkedList<>( 5 );
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+		myList.add( 2, 99 ); // Offset 2 is half of five: [0 1 99] [2 3 4]
+		assertContents( "Failed to split odd node at half.", 0, 1, 99, 2, 3, 4 );
+		myList.add( 4, 98 );
+		myList.add( 6, 97 ); // [0 1 99] [2 98 3 97 4]
+		assertContents( "Failed to fill upper node.", 0, 1, 99, 2, 98, 3, 97, 4 );
+		myList.add( 4, 96 ); // Offset 1 of a full node: [0 1 99] [2 96 98] [3 97 4]
+		assertContents( "Failed to split full odd node.", 0, 1, 99, 2, 96, 98, 3, 97, 4 );
+		for( int i = 0; i < 9; i++ )
+		{
+			myList.remove( 0 );
+		}
+		assertTrue( "Failed to empty odd-capacity list.", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.UnrolledLinkedList#remove(int)}
+	 * to borrow from the next node when both do not fit in one, and merge when they fit exactly.
+	 */
+	@Test
+	public void testRemoveInt_BorrowThenMerge()
+	{
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( i ); // [0 1 2 3] [4 5 6 7]
+		}
+		myList.remove( 0 );
+		myList.remove( 0 ); // [2 3] is still half full
+		assertContents( "Failed to leave half-full node.", 2, 3, 4, 5, 6, 7 );
+		assertEquals( "Failed to remove item.", Integer.valueOf( 2 ), myList.remove( 0 ) );
+		// [3] and four in the next node do not fit together, so one is borrowed: [3 4] [5 6 7]
+		assertContents( "Failed to borrow from next node.", 3, 4, 5, 6, 7 );
+		assertEquals( "Failed to remove item.", Integer.valueOf( 3 ), myList.remove( 0 ) );
+		// [4] and three in the next node fit exactly, so they merge: [4 5 6 7]
+		assertContents( "Failed to merge with next node.", 4, 5, 6, 7 );
+		myList.add( 2, 99 ); // The merged node is full, so this splits it
+		assertContents( "Failed to split merged node.", 4, 5, 99, 6, 7 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.UnrolledLinkedList#remove(java.lang.Object)}
+	 * to unlink a node emptied by a removal and keep its neighbours linked.
+	 */
+	@Test
+	public void testRemoveE_EmptiesNode()
+	{
+		for( int i = 0; i < 9; i++ )
+		{
+			myList.add( i ); // [0 1 2 3] [4 5 6 7] [8]
+		}
+		assertEquals( "Failed to remove last node's item.", Integer.valueOf( 8 ), myList.remove( Integer.valueOf( 8 ) ) );
+		assertContents( "Failed to unlink empty tail node.", 0, 1, 2, 3, 4, 5, 6, 7 );
+		myList.add( 8 );
+		assertContents( "Failed to append after unlinking tail.", 0, 1, 2, 3, 4, 5, 6, 7, 8 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.UnrolledLinkedList#iterator()}
+	 * to step across node boundaries after a merge in the middle of the list, and fail fast after a change.
+	 */
+	@Test
+	public void testIterator_AcrossMergedNodes()
+	{
+		for( int i = 0; i < 12; i++ )
+		{
+			myList.add( i ); // [0 1 2 3] [4 5 6 7] [8 9 10 11]
+		}
+		myList.remove( 4 );
+		myList.remove( 4 );
+		myList.remove( 4 ); // [7] borrows: [7 8] [9 10 11]
+		myList.remove( 4 ); // [8] merges: [8 9 10 11]
+		assertContents( "Failed to iterate across merged nodes.", 0, 1, 2, 3, 8, 9, 10, 11 );
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < 4; i++ )
+		{
+			it.next();
+		}
+		assertEquals( "Failed to step into next node.", Integer.valueOf( 8 ), it.next() );
+		myList.remove( 0 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch ( java.util.ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.UnrolledLinkedList#UnrolledLinkedList(int)}
+	 * to reject nodes too small to split into two halves.
+	 */
+	@Test
+	public void testConstructor_CapacityTooSmall()
+	{
+		try
+		{
+			new UnrolledLinkedList<Integer>( 3 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch ( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+}